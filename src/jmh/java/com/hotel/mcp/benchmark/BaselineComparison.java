@@ -0,0 +1,115 @@
+package com.hotel.mcp.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result against a stored baseline and fails when a
+ * benchmark regresses by more than the allowed fraction.
+ *
+ * Throughput scores regress when they drop; sample-time scores are compared
+ * on p99 and regress when they grow. Benchmarks missing from the baseline
+ * are reported but never fail the build.
+ *
+ * Without a baseline file the result is stored as the first baseline, unless
+ * a baseline is required (as in CI, which restores it before the run); then
+ * the missing file fails the build instead of passing silently.
+ *
+ * Usage: BaselineComparison result.json baseline.json [maxRegression] [update] [requireBaseline]
+ */
+public final class BaselineComparison {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path resultFile = Path.of(args[0]);
+        Path baselineFile = Path.of(args[1]);
+        double maxRegression = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+        boolean update = args.length > 3 && Boolean.parseBoolean(args[3]);
+        boolean requireBaseline = args.length > 4 && Boolean.parseBoolean(args[4]);
+
+        if (!Files.exists(resultFile)) {
+            System.out.println("No JMH result at " + resultFile + ", skipping baseline comparison");
+            return;
+        }
+        if (!update && requireBaseline && !Files.exists(baselineFile)) {
+            System.err.println("No baseline at " + baselineFile + "; restore one or run with -Djmh.updateBaseline=true");
+            System.exit(1);
+        }
+        if (update || !Files.exists(baselineFile)) {
+            Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+            Files.copy(resultFile, baselineFile, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Stored " + resultFile + " as the new baseline " + baselineFile);
+            return;
+        }
+
+        Map<String, Double> baseline = scores(baselineFile);
+        Map<String, Double> current = scores(resultFile);
+
+        int regressions = 0;
+        for (Map.Entry<String, Double> entry : current.entrySet()) {
+            Double previous = baseline.get(entry.getKey());
+            if (previous == null || previous == 0.0) {
+                System.out.printf("NEW        %-70s %12.3f%n", entry.getKey(), entry.getValue());
+                continue;
+            }
+
+            boolean higherIsBetter = entry.getKey().endsWith("[thrpt]");
+            double change = (entry.getValue() - previous) / previous;
+            boolean regressed = higherIsBetter ? change < -maxRegression : change > maxRegression;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-10s %-70s %12.3f -> %12.3f (%+.1f%%)%n",
+                    regressed ? "REGRESSED" : "OK", entry.getKey(), previous, entry.getValue(), change * 100);
+        }
+
+        if (regressions > 0) {
+            System.err.println(regressions + " benchmark(s) regressed by more than "
+                    + Math.round(maxRegression * 100) + "% against " + baselineFile);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Map "benchmark{params}[mode]" to its score, using p99 for sample-time runs.
+     */
+    private static Map<String, Double> scores(Path file) throws IOException {
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (JsonNode run : MAPPER.readTree(file.toFile())) {
+            String mode = run.path("mode").asText();
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = run.path("params").fields();
+            if (params.hasNext()) {
+                key.append('{');
+                while (params.hasNext()) {
+                    Map.Entry<String, JsonNode> param = params.next();
+                    key.append(param.getKey()).append('=').append(param.getValue().asText());
+                    if (params.hasNext()) {
+                        key.append(',');
+                    }
+                }
+                key.append('}');
+            }
+            key.append('[').append(mode).append(']');
+
+            JsonNode metric = run.path("primaryMetric");
+            double score = "sample".equals(mode)
+                    ? metric.path("scorePercentiles").path("99.0").asDouble()
+                    : metric.path("score").asDouble();
+            scores.put(key.toString(), score);
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,118 @@
+package com.hotel.mcp.benchmark;
+
+import com.hotel.mcp.entity.Booking;
+import com.hotel.mcp.entity.BookingStatus;
+import com.hotel.mcp.entity.Property;
+import com.hotel.mcp.entity.Room;
+import com.hotel.mcp.entity.RoomType;
+import com.hotel.mcp.repository.PropertyRepository;
+import com.hotel.mcp.service.BulkImportService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds a dedicated benchmark property with a large room inventory and
+ * booking history through the bulk import path.
+ *
+ * Bookings are laid out per room as a non-overlapping sequence of stays
+ * that starts well in the past, so most of the history is completed or
+ * cancelled and the tail is a mix of confirmed and pending future stays.
+ */
+class BenchmarkDataSeeder {
+
+    static final String PROPERTY_CODE = "BENCH";
+    static final int GUEST_COUNT = 50_000;
+
+    private static final RoomType[] TYPES = RoomType.values();
+    private static final int[] BASE_PRICES = { 2500, 4500, 8500, 15000 };
+    private static final int[] OCCUPANCY = { 1, 2, 4, 4 };
+
+    private final PropertyRepository propertyRepository;
+    private final BulkImportService bulkImportService;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    final List<String> roomNumbers = new ArrayList<>();
+    final List<String> bookingReferences = new ArrayList<>();
+    final List<String> pendingReferences = new ArrayList<>();
+
+    BenchmarkDataSeeder(PropertyRepository propertyRepository, BulkImportService bulkImportService) {
+        this.propertyRepository = propertyRepository;
+        this.bulkImportService = bulkImportService;
+    }
+
+    void seed(int roomCount, int bookingCount) {
+        Property property = propertyRepository.save(new Property(PROPERTY_CODE, "Benchmark Hotel", "Benchmark City"));
+
+        List<Room> rooms = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            int type = i % TYPES.length;
+            String roomNumber = String.format("B%05d", i);
+            roomNumbers.add(roomNumber);
+            rooms.add(new Room(roomNumber, TYPES[type],
+                    BigDecimal.valueOf(BASE_PRICES[type] + random.nextInt(5) * 250L),
+                    "Benchmark " + TYPES[type].name().toLowerCase() + " room " + roomNumber,
+                    "AC, WiFi, TV", OCCUPANCY[type]));
+        }
+        bulkImportService.importRooms(property, rooms);
+
+        LocalDate today = LocalDate.now();
+        LocalDate[] nextFree = new LocalDate[rooms.size()];
+        for (int i = 0; i < nextFree.length; i++) {
+            nextFree[i] = today.minusDays(450 + random.nextInt(30));
+        }
+
+        bulkImportService.importBookings(new Iterator<>() {
+            private int i;
+
+            @Override
+            public boolean hasNext() {
+                return i < bookingCount;
+            }
+
+            @Override
+            public Booking next() {
+                int roomIndex = i % rooms.size();
+                LocalDate checkIn = nextFree[roomIndex].plusDays(random.nextInt(3));
+                LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(5));
+                // Check-out day counts as occupied, so the next stay starts at least a day later
+                nextFree[roomIndex] = checkOut.plusDays(1);
+
+                BookingStatus status = status(checkOut, today);
+                String reference = String.format("HBK-SEED-%08d", i);
+                if (random.nextInt(100) == 0) {
+                    bookingReferences.add(reference);
+                }
+                if (status == BookingStatus.PENDING) {
+                    pendingReferences.add(reference);
+                }
+
+                long nights = checkOut.toEpochDay() - checkIn.toEpochDay();
+                Booking booking = new Booking(reference, "Guest " + i, guestEmail(i % GUEST_COUNT),
+                        "9876543210", rooms.get(roomIndex), checkIn, checkOut, BigDecimal.valueOf(3000L * nights));
+                booking.setStatus(status);
+                booking.setCreatedAt(LocalDateTime.of(checkIn.minusDays(20), LocalTime.NOON));
+                i++;
+                return booking;
+            }
+        });
+    }
+
+    static String guestEmail(int guest) {
+        return "guest" + guest + "@example.com";
+    }
+
+    private BookingStatus status(LocalDate checkOut, LocalDate today) {
+        int roll = random.nextInt(10);
+        if (checkOut.isBefore(today)) {
+            return roll == 0 ? BookingStatus.CANCELLED : BookingStatus.COMPLETED;
+        }
+        return roll < 3 ? BookingStatus.PENDING : BookingStatus.CONFIRMED;
+    }
+}
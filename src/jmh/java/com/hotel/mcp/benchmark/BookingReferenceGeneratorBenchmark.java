@@ -0,0 +1,59 @@
+package com.hotel.mcp.benchmark;
+
+import com.hotel.mcp.service.SnowflakeBookingReferenceGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of booking reference generation, single-threaded and under
+ * contention, against the original shared-Random implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingReferenceGeneratorBenchmark {
+
+    private SnowflakeBookingReferenceGenerator generator;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        generator = new SnowflakeBookingReferenceGenerator(1);
+        random = new Random();
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String snowflakeContended() {
+        return generator.next();
+    }
+
+    @Benchmark
+    public String legacyRandom() {
+        return legacy();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String legacyRandomContended() {
+        return legacy();
+    }
+
+    private String legacy() {
+        String datePart = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        String randomPart = String.format("%04X", random.nextInt(0xFFFF));
+        return "HBK-" + datePart + "-" + randomPart;
+    }
+}
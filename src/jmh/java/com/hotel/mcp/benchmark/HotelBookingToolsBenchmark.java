@@ -0,0 +1,199 @@
+package com.hotel.mcp.benchmark;
+
+import com.hotel.mcp.HotelBookingMcpApplication;
+import com.hotel.mcp.dto.*;
+import com.hotel.mcp.repository.PropertyRepository;
+import com.hotel.mcp.service.BulkImportService;
+import com.hotel.mcp.tools.HotelBookingTools;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives every MCP tool in {@link HotelBookingTools} against an embedded H2
+ * database seeded with a realistic inventory (10k rooms, 1M bookings by
+ * default). Each benchmark reports throughput and a latency distribution
+ * including p99.
+ *
+ * Tools log at INFO as in production, once through the async appender and
+ * once writing to the log file on the calling thread, so the cost of the
+ * logging pipeline shows up in tool latency.
+ *
+ * Run with: ./mvnw -Pjmh verify -Djmh.includes=HotelBookingToolsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = { "-Xms1g", "-Xmx2g" })
+@Threads(4)
+public class HotelBookingToolsBenchmark {
+
+    private static final String[] ROOM_TYPES = { "SINGLE", "DOUBLE", "SUITE", "DELUXE" };
+    private static final int GROUP_SIZE = 3;
+
+    @Param("10000")
+    public int rooms;
+
+    @Param("1000000")
+    public int bookings;
+
+    @Param({ "ASYNC", "FILE" })
+    public String logAppender;
+
+    private ConfigurableApplicationContext context;
+    private HotelBookingTools tools;
+    private List<String> roomNumbers;
+    private List<String> bookingReferences;
+    private Queue<String> pendingReferences;
+    private LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(HotelBookingMcpApplication.class,
+                "--spring.profiles.active=dev",
+                "--spring.main.web-application-type=none",
+                "--spring.ai.mcp.server.stdio=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.file.name=target/benchmark.log",
+                "--logging.level.com.hotel.mcp=INFO",
+                "--hotel.logging.appender=" + logAppender);
+
+        // Bulk import rebuilds the availability index once the bookings are in
+        BenchmarkDataSeeder seeder = new BenchmarkDataSeeder(context.getBean(PropertyRepository.class),
+                context.getBean(BulkImportService.class));
+        seeder.seed(rooms, bookings);
+
+        tools = context.getBean(HotelBookingTools.class);
+        roomNumbers = seeder.roomNumbers;
+        bookingReferences = seeder.bookingReferences;
+        pendingReferences = new ConcurrentLinkedQueue<>(seeder.pendingReferences);
+        today = LocalDate.now();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<RoomTypeInfo> listRoomTypes() {
+        return tools.listRoomTypes();
+    }
+
+    @Benchmark
+    public AvailabilityResult checkAvailability() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate checkIn = today.plusDays(1 + random.nextInt(90));
+        return tools.checkAvailability(ROOM_TYPES[random.nextInt(ROOM_TYPES.length)],
+                checkIn.toString(), checkIn.plusDays(1 + random.nextInt(4)).toString(),
+                BenchmarkDataSeeder.PROPERTY_CODE);
+    }
+
+    @Benchmark
+    public AllAvailabilityResult checkAvailabilityAll() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate checkIn = today.plusDays(1 + random.nextInt(90));
+        return tools.checkAvailabilityAll(checkIn.toString(), checkIn.plusDays(1 + random.nextInt(4)).toString(),
+                BenchmarkDataSeeder.PROPERTY_CODE);
+    }
+
+    @Benchmark
+    public PriceQuote getPriceQuote() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate checkIn = today.plusDays(1 + random.nextInt(360));
+        return tools.getPriceQuote(checkIn.toString(), checkIn.plusDays(1 + random.nextInt(14)).toString(),
+                null, BenchmarkDataSeeder.PROPERTY_CODE);
+    }
+
+    @Benchmark
+    public FlexibleSearchResult searchFlexibleDates() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate windowStart = today.plusDays(1 + random.nextInt(90));
+        return tools.searchFlexibleDates(windowStart.toString(), windowStart.plusDays(14).toString(),
+                1 + random.nextInt(4), ROOM_TYPES[random.nextInt(ROOM_TYPES.length)],
+                BenchmarkDataSeeder.PROPERTY_CODE, null);
+    }
+
+    @Benchmark
+    public BookingResult createBooking() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // Beyond the seeded history so most attempts exercise the full write path
+        LocalDate checkIn = today.plusDays(120 + random.nextInt(240));
+        return tools.bookRoom(roomNumbers.get(random.nextInt(roomNumbers.size())),
+                "Benchmark Guest", "bench@example.com", null,
+                checkIn.toString(), checkIn.plusDays(1 + random.nextInt(3)).toString(),
+                BenchmarkDataSeeder.PROPERTY_CODE, null);
+    }
+
+    @Benchmark
+    public GroupBookingResult bookRooms() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // Adjacent rooms, as for a group, beyond the seeded history
+        int first = random.nextInt(roomNumbers.size() - GROUP_SIZE);
+        LocalDate checkIn = today.plusDays(120 + random.nextInt(240));
+        return tools.bookRooms(roomNumbers.subList(first, first + GROUP_SIZE),
+                "Benchmark Group", "group@example.com", null,
+                checkIn.toString(), checkIn.plusDays(1 + random.nextInt(3)).toString(),
+                BenchmarkDataSeeder.PROPERTY_CODE, null);
+    }
+
+    @Benchmark
+    public BookingDetails getBookingDetails() {
+        return tools.getBookingDetails(randomReference());
+    }
+
+    @Benchmark
+    public List<BookingDetails> getBookings() {
+        List<String> references = new ArrayList<>(GROUP_SIZE);
+        for (int i = 0; i < GROUP_SIZE; i++) {
+            references.add(randomReference());
+        }
+        return tools.getBookings(references);
+    }
+
+    @Benchmark
+    public BookingPage listBookings() {
+        LocalDate from = today.plusDays(ThreadLocalRandom.current().nextInt(-365, 90));
+        return tools.listBookings(BenchmarkDataSeeder.PROPERTY_CODE, null, from.toString(),
+                from.plusDays(30).toString(), null, null);
+    }
+
+    @Benchmark
+    public BookingPage findMyBookings() {
+        return tools.findMyBookings(BenchmarkDataSeeder.guestEmail(
+                ThreadLocalRandom.current().nextInt(BenchmarkDataSeeder.GUEST_COUNT)), null, null, null);
+    }
+
+    @Benchmark
+    public ConfirmationResult confirmBooking() {
+        String reference = pendingReferences.poll();
+        return tools.confirmBooking(reference != null ? reference : randomReference(), null);
+    }
+
+    @Benchmark
+    public CancellationResult cancelBooking() {
+        String reference = pendingReferences.poll();
+        return tools.cancelBooking(reference != null ? reference : randomReference(), null);
+    }
+
+    @Benchmark
+    public OccupancyReport getOccupancyReport() {
+        LocalDate from = today.plusDays(ThreadLocalRandom.current().nextInt(-365, 0));
+        return tools.getOccupancyReport(from.toString(), from.plusDays(90).toString(),
+                BenchmarkDataSeeder.PROPERTY_CODE);
+    }
+
+    private String randomReference() {
+        return bookingReferences.get(ThreadLocalRandom.current().nextInt(bookingReferences.size()));
+    }
+}
@@ -1,7 +1,10 @@
 package com.hotel.mcp;
 
+import com.hotel.mcp.config.PricingProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Hotel Booking MCP Server Application.
@@ -10,6 +13,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * that can be used by Claude Desktop and other MCP clients.
  */
 @SpringBootApplication
+@EnableScheduling
+@EnableConfigurationProperties(PricingProperties.class)
 public class HotelBookingMcpApplication {
 
     public static void main(String[] args) {
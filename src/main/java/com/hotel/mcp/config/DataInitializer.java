@@ -1,11 +1,16 @@
 package com.hotel.mcp.config;
 
+import com.hotel.mcp.entity.Property;
 import com.hotel.mcp.entity.Room;
 import com.hotel.mcp.entity.RoomType;
+import com.hotel.mcp.repository.BookingRepository;
+import com.hotel.mcp.repository.PropertyRepository;
 import com.hotel.mcp.repository.RoomRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,23 +20,43 @@ import java.util.List;
 /**
  * Initializes the database with sample hotel room data.
  * This runs on application startup and loads dummy data for testing.
+ * Replaced by {@link com.hotel.mcp.importer.ImportRunner} when file import is enabled.
  */
 @Component
+@ConditionalOnProperty(prefix = "hotel.import", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class DataInitializer implements CommandLineRunner {
 
     private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
 
     private final RoomRepository roomRepository;
+    private final PropertyRepository propertyRepository;
+    private final BookingRepository bookingRepository;
+    private final String defaultPropertyCode;
 
-    public DataInitializer(RoomRepository roomRepository) {
+    public DataInitializer(RoomRepository roomRepository, PropertyRepository propertyRepository,
+            BookingRepository bookingRepository,
+            @Value("${hotel.default-property-code:MAIN}") String defaultPropertyCode) {
         this.roomRepository = roomRepository;
+        this.propertyRepository = propertyRepository;
+        this.bookingRepository = bookingRepository;
+        this.defaultPropertyCode = defaultPropertyCode;
     }
 
     @Override
     @Transactional
     public void run(String... args) throws Exception {
+        Property property = propertyRepository.findByCode(defaultPropertyCode)
+                .orElseGet(() -> propertyRepository.save(
+                        new Property(defaultPropertyCode, "Grand Demo Hotel", "Bengaluru")));
+
         // Only initialize if database is empty
         if (roomRepository.count() > 0) {
+            // Rooms and bookings created before properties existed belong to the default property
+            int rooms = roomRepository.assignPropertyWhereMissing(property);
+            int bookings = bookingRepository.assignPropertyWhereMissing(property.getId());
+            if (rooms > 0 || bookings > 0) {
+                log.info("Assigned {} rooms and {} bookings to property {}", rooms, bookings, property.getCode());
+            }
             log.info("Database already initialized with {} rooms", roomRepository.count());
             return;
         }
@@ -95,6 +120,7 @@ public class DataInitializer implements CommandLineRunner {
                         "Royal suite with panoramic views",
                         "Royal Suite, Rooftop Terrace, Butler, Limousine Service", 6));
 
+        rooms.forEach(room -> room.setProperty(property));
         roomRepository.saveAll(rooms);
         log.info("Successfully initialized {} hotel rooms", rooms.size());
     }
@@ -0,0 +1,49 @@
+package com.hotel.mcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replica routing settings under {@code hotel.datasource.routing}.
+ *
+ * @param maxLag           replicas lagging further behind the primary are not used
+ * @param lagProbeInterval how often replica lag is measured
+ * @param lagQuery         query returning a replica's replay lag in milliseconds
+ */
+@ConfigurationProperties(prefix = "hotel.datasource.routing")
+public record DataSourceRoutingProperties(
+        boolean enabled,
+        @DefaultValue("PT2S") Duration maxLag,
+        @DefaultValue("PT1S") Duration lagProbeInterval,
+        @DefaultValue(DataSourceRoutingProperties.DEFAULT_LAG_QUERY) String lagQuery,
+        List<Replica> replicas) {
+
+    /**
+     * Zero when the replica has replayed everything it received, otherwise
+     * the age of the last replayed transaction.
+     */
+    static final String DEFAULT_LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)::bigint
+            END""";
+
+    public DataSourceRoutingProperties {
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+    }
+
+    /**
+     * Connection settings for one replica. Username and password default to
+     * the primary's.
+     */
+    public record Replica(
+            String name,
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.hotel.mcp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors used by the MCP tools.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Bounded pool for fanning availability searches out across properties.
+     * Sized well below the connection pool so searches cannot starve bookings.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor propertySearchExecutor(
+            @Value("${hotel.property-search.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("property-search-");
+        // Carry the current observation over so per-property searches join the tool's trace
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Bounded pool running tool calls for the ASYNC MCP server.
+     * Calls beyond the queue capacity are rejected rather than piling up.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor toolExecutor(
+            @Value("${hotel.tools.async.pool-size:16}") int poolSize,
+            @Value("${hotel.tools.async.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mcp-tool-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool that parses and validates import chunks while the importing
+     * thread writes the previous ones.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor importExecutor(@Value("${hotel.import.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("import-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,76 @@
+package com.hotel.mcp.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Observes calls into {@code @Service} classes and Spring Data repositories
+ * as {@code hotel.service} and {@code hotel.repository}, tagged with class
+ * and method. Nested under the tool observation, they give each tool call a
+ * span per layer and a timer per method.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "hotel.observability.layers", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LayerObservationAspect {
+
+    private static final String REPOSITORY_PACKAGE = "com.hotel.mcp.repository";
+
+    private final ObservationRegistry observationRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public LayerObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("within(com.hotel.mcp.service..*) && @within(org.springframework.stereotype.Service)")
+    public Object observeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("hotel.service", joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint);
+    }
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object observeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("hotel.repository", repositoryName(joinPoint.getThis()), joinPoint);
+    }
+
+    private Object observe(String name, String className, ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted(name, observationRegistry)
+                .contextualName(className + "." + method)
+                .lowCardinalityKeyValue("class", className)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * The application's repository interface behind a proxy, so inherited
+     * methods such as save are tagged BookingRepository rather than CrudRepository.
+     */
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            for (Class<?> candidate : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+                if (candidate.getPackageName().startsWith(REPOSITORY_PACKAGE)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
@@ -3,21 +3,52 @@ package com.hotel.mcp.config;
 import com.hotel.mcp.dto.RoomTypeInfo;
 import com.hotel.mcp.service.RoomService;
 import com.hotel.mcp.tools.HotelBookingTools;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import org.springframework.ai.mcp.McpToolUtils;
 import org.springframework.ai.support.ToolCallbacks;
 import org.springframework.ai.tool.ToolCallback;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Description;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 @Configuration
 public class McpConfig {
 
     @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "SYNC", matchIfMissing = true)
     @Description("List all available hotel room types with their starting prices (in INR), descriptions, and current availability count. Use this to help guests explore room options.")
     public List<ToolCallback> listRoomTypes(HotelBookingTools hotelBookingTools) {
         return List.of(ToolCallbacks.from(hotelBookingTools));
     }
+
+    /**
+     * Tool specifications for the ASYNC server. Each call returns a Mono and
+     * runs its blocking JPA work on the bounded tool executor, so a slow
+     * availability scan never holds up other requests on the same session.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+    public List<McpServerFeatures.AsyncToolSpecification> asyncHotelBookingTools(
+            HotelBookingTools hotelBookingTools,
+            @Qualifier("toolExecutor") Executor toolExecutor) {
+        Scheduler scheduler = Schedulers.fromExecutor(toolExecutor);
+        return Arrays.stream(ToolCallbacks.from(hotelBookingTools))
+                .map(McpToolUtils::toSyncToolSpecification)
+                .map(spec -> new McpServerFeatures.AsyncToolSpecification(spec.tool(),
+                        (exchange, arguments) -> Mono
+                                .fromCallable(() -> spec.call().apply(new McpSyncServerExchange(exchange), arguments))
+                                .subscribeOn(scheduler)))
+                .toList();
+    }
 }
@@ -0,0 +1,48 @@
+package com.hotel.mcp.config;
+
+import com.hotel.mcp.service.AvailabilityIndex;
+import com.hotel.mcp.service.RoomCatalogCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Meters for the in-memory structures on the availability hot path.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder availabilityIndexMetrics(AvailabilityIndex availabilityIndex) {
+        return registry -> {
+            FunctionCounter.builder("hotel.availability.index.lookups", availabilityIndex, AvailabilityIndex::getHits)
+                    .description("Room lookups answered by the availability index")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("hotel.availability.index.lookups", availabilityIndex, AvailabilityIndex::getMisses)
+                    .description("Room lookups answered by the availability index")
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("hotel.availability.index.hit.ratio", availabilityIndex, AvailabilityIndex::getHitRate)
+                    .description("Fraction of room lookups answered from memory")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder roomCatalogCacheMetrics(RoomCatalogCache roomCatalogCache) {
+        return registry -> {
+            FunctionCounter.builder("hotel.room.catalog.requests", roomCatalogCache, RoomCatalogCache::getHits)
+                    .description("list_room_types catalog requests")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("hotel.room.catalog.requests", roomCatalogCache, RoomCatalogCache::getMisses)
+                    .description("list_room_types catalog requests")
+                    .tag("result", "miss")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.hotel.mcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Rate calendar settings under {@code hotel.pricing}.
+ *
+ * @param horizonDays            nights from today held as prefix sums in memory
+ * @param lengthOfStayDiscounts  minimum nights to discount in basis points
+ *                               (500 = 5% off); the largest matching tier applies
+ */
+@ConfigurationProperties(prefix = "hotel.pricing")
+public record PricingProperties(
+        @DefaultValue("400") int horizonDays,
+        Map<Integer, Integer> lengthOfStayDiscounts) {
+
+    public PricingProperties {
+        lengthOfStayDiscounts = lengthOfStayDiscounts == null ? Map.of() : Map.copyOf(lengthOfStayDiscounts);
+    }
+}
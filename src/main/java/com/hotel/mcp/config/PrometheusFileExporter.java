@@ -0,0 +1,49 @@
+package com.hotel.mcp.config;
+
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Writes the Prometheus exposition to a local file at a fixed interval, for
+ * STDIO deployments that have no HTTP endpoint to scrape. The file is
+ * replaced atomically, so it can be read by the node_exporter textfile
+ * collector. Enabled by setting {@code hotel.metrics.prometheus-file.path}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "hotel.metrics.prometheus-file", name = "path")
+public class PrometheusFileExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(PrometheusFileExporter.class);
+
+    private final PrometheusMeterRegistry registry;
+    private final Path path;
+
+    public PrometheusFileExporter(PrometheusMeterRegistry registry,
+            @Value("${hotel.metrics.prometheus-file.path}") String path) {
+        this.registry = registry;
+        this.path = Path.of(path).toAbsolutePath();
+    }
+
+    @Scheduled(fixedDelayString = "${hotel.metrics.prometheus-file.interval:PT15S}")
+    public void export() {
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.writeString(temp, registry.scrape(), StandardCharsets.UTF_8);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write Prometheus metrics to {}: {}", path, e.getMessage());
+        }
+    }
+}
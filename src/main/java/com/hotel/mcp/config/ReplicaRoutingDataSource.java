@@ -0,0 +1,161 @@
+package com.hotel.mcp.config;
+
+import com.hotel.mcp.service.ReadYourWrites;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data source that sends read-only transactions to replica pools and
+ * everything else to the primary.
+ *
+ * Each replica's replication lag is probed periodically. Replicas lagging
+ * further than the configured maximum are skipped until they catch up, and
+ * reads fall back to the primary when no replica is eligible. A probe result
+ * ages with the time since it was taken: a replica stays eligible only while
+ * its measured lag plus that age fits within the maximum lag plus the probe
+ * interval, the window ReadYourWrites keeps reads on the primary for. Probes
+ * delayed behind other scheduled jobs therefore take replicas out of routing
+ * rather than leaving them in on an old measurement. Must be
+ * wrapped in a lazy connection proxy so the routing decision is made after
+ * the transaction's read-only flag is known.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMillis;
+    private final long probeIntervalMillis;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicaDataSources,
+            Duration maxLag, Duration lagProbeInterval, String lagQuery) {
+        this.maxLagMillis = maxLag.toMillis();
+        this.probeIntervalMillis = lagProbeInterval.toMillis();
+        this.lagQuery = lagQuery;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicaDataSources.forEach((name, dataSource) -> {
+            targets.put(name, dataSource);
+            replicas.add(new Replica(name, dataSource));
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        probeLag();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadYourWrites.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        long now = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (isEligible(replica, now)) {
+                return replica.name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Measure each replica's replication lag. Unreachable replicas are treated
+     * as infinitely stale.
+     */
+    @Scheduled(fixedDelayString = "${hotel.datasource.routing.lag-probe-interval:PT1S}")
+    public void probeLag() {
+        for (Replica replica : replicas) {
+            // Taken before the query so the probe's own duration counts towards its age
+            long probedAt = System.nanoTime();
+            long lagMillis;
+            try (Connection connection = replica.dataSource.getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                lagMillis = resultSet.next() ? resultSet.getLong(1) : Long.MAX_VALUE;
+            } catch (SQLException e) {
+                log.warn("Replica {} lag probe failed: {}", replica.name, e.getMessage());
+                lagMillis = Long.MAX_VALUE;
+            }
+
+            boolean wasEligible = replica.lastProbe.lagMillis() <= maxLagMillis;
+            replica.lastProbe = new Replica.Probe(lagMillis, probedAt);
+            boolean eligible = lagMillis <= maxLagMillis;
+            if (wasEligible != eligible) {
+                log.info("Replica {} {} read routing (lag={}ms, maxLag={}ms)", replica.name,
+                        eligible ? "joined" : "left", lagMillis == Long.MAX_VALUE ? "unknown" : lagMillis,
+                        maxLagMillis);
+            }
+        }
+    }
+
+    /**
+     * Whether the replica's last measured lag, plus the time since it was
+     * measured, is still within the maximum lag plus one probe interval.
+     */
+    private boolean isEligible(Replica replica, long now) {
+        Replica.Probe probe = replica.lastProbe;
+        if (probe.lagMillis() > maxLagMillis) {
+            return false;
+        }
+        long ageMillis = (now - probe.probedAt()) / 1_000_000;
+        return probe.lagMillis() + ageMillis <= maxLagMillis + probeIntervalMillis;
+    }
+
+    /**
+     * Close the replica pools; the primary is closed by its own bean.
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile Probe lastProbe = new Probe(Long.MAX_VALUE, System.nanoTime());
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * One lag measurement and the {@link System#nanoTime()} it was taken at,
+         * published together so routing never pairs a lag with another probe's time.
+         */
+        private record Probe(long lagMillis, long probedAt) {
+        }
+    }
+}
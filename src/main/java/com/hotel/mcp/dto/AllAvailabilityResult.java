@@ -0,0 +1,74 @@
+package com.hotel.mcp.dto;
+
+import com.hotel.mcp.entity.RoomType;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for an availability check across all room types, grouped by type.
+ * Every room type is listed, with a zero count when none of its rooms are free.
+ */
+public record AllAvailabilityResult(
+        boolean available,
+        String propertyCode,
+        String checkInDate,
+        String checkOutDate,
+        int numberOfNights,
+        int availableRoomCount,
+        List<TypeAvailability> roomTypes,
+        String message,
+        ToolOutcome outcome) implements ToolResult {
+
+    public static AllAvailabilityResult of(String propertyCode, String checkInDate, String checkOutDate,
+            int numberOfNights, Map<RoomType, List<AvailableRoom>> roomsByType) {
+        List<TypeAvailability> roomTypes = new ArrayList<>();
+        int total = 0;
+        for (RoomType type : RoomType.values()) {
+            TypeAvailability group = TypeAvailability.of(type, roomsByType.getOrDefault(type, List.of()));
+            roomTypes.add(group);
+            total += group.availableRoomCount();
+        }
+
+        return new AllAvailabilityResult(
+                total > 0,
+                propertyCode,
+                checkInDate,
+                checkOutDate,
+                numberOfNights,
+                total,
+                roomTypes,
+                total == 0
+                        ? "Sorry, no rooms are available for the selected dates."
+                        : total + " room(s) available for your selected dates.",
+                ToolOutcome.SUCCESS);
+    }
+
+    public static AllAvailabilityResult error(ToolOutcome outcome, String message) {
+        return new AllAvailabilityResult(false, null, null, null, 0, 0, List.of(), message, outcome);
+    }
+
+    /**
+     * Merge per-property results into a single result across all properties.
+     */
+    public static AllAvailabilityResult merge(List<AllAvailabilityResult> results) {
+        if (results.isEmpty()) {
+            return error(ToolOutcome.NOT_FOUND, "No properties are available to search.");
+        }
+
+        Map<RoomType, List<AvailableRoom>> roomsByType = new EnumMap<>(RoomType.class);
+        for (AllAvailabilityResult result : results) {
+            if (result.outcome() != ToolOutcome.SUCCESS) {
+                return result;
+            }
+            for (TypeAvailability group : result.roomTypes()) {
+                roomsByType.computeIfAbsent(RoomType.valueOf(group.type()), type -> new ArrayList<>())
+                        .addAll(group.availableRooms());
+            }
+        }
+
+        AllAvailabilityResult first = results.get(0);
+        return of(null, first.checkInDate(), first.checkOutDate(), first.numberOfNights(), roomsByType);
+    }
+}
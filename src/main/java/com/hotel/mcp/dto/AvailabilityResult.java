@@ -1,5 +1,7 @@
 package com.hotel.mcp.dto;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -7,42 +9,77 @@ import java.util.List;
  */
 public record AvailabilityResult(
         boolean available,
+        String propertyCode,
         String checkInDate,
         String checkOutDate,
         String roomType,
         int numberOfNights,
         int availableRoomCount,
         List<AvailableRoom> availableRooms,
-        String message) {
-    public static AvailabilityResult success(String checkInDate, String checkOutDate,
+        String message,
+        ToolOutcome outcome) implements ToolResult {
+    public static AvailabilityResult success(String propertyCode, String checkInDate, String checkOutDate,
             String roomType, int numberOfNights,
             List<AvailableRoom> rooms) {
         return new AvailabilityResult(
                 true,
+                propertyCode,
                 checkInDate,
                 checkOutDate,
                 roomType,
                 numberOfNights,
                 rooms.size(),
                 rooms,
-                rooms.size() + " room(s) available for your selected dates.");
+                rooms.size() + " room(s) available for your selected dates.",
+                ToolOutcome.SUCCESS);
     }
 
-    public static AvailabilityResult noAvailability(String checkInDate, String checkOutDate,
+    public static AvailabilityResult noAvailability(String propertyCode, String checkInDate, String checkOutDate,
             String roomType, int numberOfNights) {
         return new AvailabilityResult(
                 false,
+                propertyCode,
                 checkInDate,
                 checkOutDate,
                 roomType,
                 numberOfNights,
                 0,
                 List.of(),
-                "Sorry, no rooms of type " + roomType + " are available for the selected dates.");
+                "Sorry, no rooms of type " + roomType + " are available for the selected dates.",
+                ToolOutcome.SUCCESS);
     }
 
-    public static AvailabilityResult error(String message) {
+    public static AvailabilityResult error(ToolOutcome outcome, String message) {
         return new AvailabilityResult(
-                false, null, null, null, 0, 0, List.of(), message);
+                false, null, null, null, null, 0, 0, List.of(), message, outcome);
+    }
+
+    /**
+     * Merge per-property results into a single result across all properties.
+     * Rooms are ordered by stay price so the merge is independent of arrival order.
+     */
+    public static AvailabilityResult merge(List<AvailabilityResult> results) {
+        if (results.isEmpty()) {
+            return error(ToolOutcome.NOT_FOUND, "No properties are available to search.");
+        }
+
+        List<AvailableRoom> rooms = new ArrayList<>();
+        for (AvailabilityResult result : results) {
+            if (result.outcome() != ToolOutcome.SUCCESS) {
+                return result;
+            }
+            rooms.addAll(result.availableRooms());
+        }
+        rooms.sort(Comparator.comparing(AvailableRoom::totalPrice)
+                .thenComparing(AvailableRoom::propertyCode)
+                .thenComparing(AvailableRoom::roomNumber));
+
+        AvailabilityResult first = results.get(0);
+        if (rooms.isEmpty()) {
+            return noAvailability(null, first.checkInDate(), first.checkOutDate(),
+                    first.roomType(), first.numberOfNights());
+        }
+        return success(null, first.checkInDate(), first.checkOutDate(),
+                first.roomType(), first.numberOfNights(), rooms);
     }
 }
@@ -3,13 +3,16 @@ package com.hotel.mcp.dto;
 import java.math.BigDecimal;
 
 /**
- * DTO for available room information.
+ * DTO for available room information. The total price is for the requested
+ * stay, from the rate calendar.
  */
 public record AvailableRoom(
+        String propertyCode,
         String roomNumber,
         String type,
         String description,
         String amenities,
         BigDecimal pricePerNight,
+        BigDecimal totalPrice,
         int maxOccupancy) {
 }
@@ -1,7 +1,10 @@
 package com.hotel.mcp.dto;
 
-import com.hotel.mcp.entity.Booking;
+import com.hotel.mcp.entity.BookingStatus;
+import com.hotel.mcp.entity.RoomType;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
@@ -14,6 +17,7 @@ public record BookingDetails(
         String guestName,
         String guestEmail,
         String guestPhone,
+        String propertyCode,
         String roomNumber,
         String roomType,
         String checkInDate,
@@ -22,34 +26,52 @@ public record BookingDetails(
         BigDecimal pricePerNight,
         BigDecimal totalPrice,
         String createdAt,
-        String message) {
+        String message,
+        ToolOutcome outcome) implements ToolResult {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-    public static BookingDetails from(Booking booking) {
-        int nights = (int) (booking.getCheckOutDate().toEpochDay() - booking.getCheckInDate().toEpochDay());
-        return new BookingDetails(
+    /**
+     * Projection constructor used by JPQL constructor expressions.
+     */
+    public BookingDetails(String bookingReference, BookingStatus status, String guestName,
+            String guestEmail, String guestPhone, String propertyCode, String roomNumber,
+            RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate,
+            BigDecimal pricePerNight, BigDecimal totalPrice, LocalDateTime createdAt) {
+        this(
                 true,
-                booking.getBookingReference(),
-                booking.getStatus().getDisplayName(),
-                booking.getGuestName(),
-                booking.getGuestEmail(),
-                booking.getGuestPhone(),
-                booking.getRoom().getRoomNumber(),
-                booking.getRoom().getType().getDisplayName(),
-                booking.getCheckInDate().format(DATE_FORMATTER),
-                booking.getCheckOutDate().format(DATE_FORMATTER),
-                nights,
-                booking.getRoom().getPricePerNight(),
-                booking.getTotalPrice(),
-                booking.getCreatedAt().format(DATETIME_FORMATTER),
-                "Booking found.");
+                bookingReference,
+                status.getDisplayName(),
+                guestName,
+                guestEmail,
+                guestPhone,
+                propertyCode,
+                roomNumber,
+                roomType.getDisplayName(),
+                checkInDate.format(DATE_FORMATTER),
+                checkOutDate.format(DATE_FORMATTER),
+                (int) (checkOutDate.toEpochDay() - checkInDate.toEpochDay()),
+                pricePerNight,
+                totalPrice,
+                createdAt.format(DATETIME_FORMATTER),
+                "Booking found.",
+                ToolOutcome.SUCCESS);
     }
 
     public static BookingDetails notFound(String bookingReference) {
         return new BookingDetails(
-                false, bookingReference, null, null, null, null, null, null,
+                false, bookingReference, null, null, null, null, null, null, null,
                 null, null, 0, null, null, null,
-                "Booking with reference '" + bookingReference + "' was not found.");
+                "Booking with reference '" + bookingReference + "' was not found.",
+                ToolOutcome.NOT_FOUND);
+    }
+
+    /**
+     * A lookup that was rejected before any booking was read.
+     */
+    public static BookingDetails error(ToolOutcome outcome, String message) {
+        return new BookingDetails(
+                false, null, null, null, null, null, null, null, null,
+                null, null, 0, null, null, null, message, outcome);
     }
 }
@@ -0,0 +1,35 @@
+package com.hotel.mcp.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a booking listing. Pass nextCursor back to fetch the
+ * following page; it is null on the last page.
+ */
+public record BookingPage(
+        boolean success,
+        String propertyCode,
+        int count,
+        List<BookingSummary> bookings,
+        boolean hasMore,
+        String nextCursor,
+        String message,
+        ToolOutcome outcome) implements ToolResult {
+    public static BookingPage of(String propertyCode, List<BookingSummary> bookings, String nextCursor) {
+        return new BookingPage(
+                true,
+                propertyCode,
+                bookings.size(),
+                bookings,
+                nextCursor != null,
+                nextCursor,
+                nextCursor != null
+                        ? bookings.size() + " booking(s) returned. Pass nextCursor to get more."
+                        : bookings.size() + " booking(s) returned. No more bookings.",
+                ToolOutcome.SUCCESS);
+    }
+
+    public static BookingPage error(ToolOutcome outcome, String message) {
+        return new BookingPage(false, null, 0, List.of(), false, null, message, outcome);
+    }
+}
@@ -1,6 +1,7 @@
 package com.hotel.mcp.dto;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * DTO for booking creation result.
@@ -17,12 +18,14 @@ public record BookingResult(
         BigDecimal pricePerNight,
         BigDecimal totalPrice,
         String status,
-        String message) {
+        String holdExpiresAt,
+        String message,
+        ToolOutcome outcome) implements ToolResult {
     public static BookingResult success(String bookingReference, String roomNumber,
             String roomType, String guestName,
             String checkInDate, String checkOutDate,
             int numberOfNights, BigDecimal pricePerNight,
-            BigDecimal totalPrice) {
+            BigDecimal totalPrice, LocalDateTime holdExpiresAt) {
         return new BookingResult(
                 true,
                 bookingReference,
@@ -35,11 +38,14 @@ public record BookingResult(
                 pricePerNight,
                 totalPrice,
                 "PENDING",
-                "Booking created successfully! Please confirm your booking using reference: " + bookingReference);
+                holdExpiresAt != null ? holdExpiresAt.toString() : null,
+                "Booking created successfully! Please confirm your booking using reference: " + bookingReference
+                        + (holdExpiresAt != null ? " before " + holdExpiresAt + ", when the room is released." : ""),
+                ToolOutcome.SUCCESS);
     }
 
-    public static BookingResult failure(String message) {
+    public static BookingResult failure(ToolOutcome outcome, String message) {
         return new BookingResult(
-                false, null, null, null, null, null, null, 0, null, null, null, message);
+                false, null, null, null, null, null, null, 0, null, null, null, null, message, outcome);
     }
 }
@@ -0,0 +1,14 @@
+package com.hotel.mcp.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of the room and dates held by a booking.
+ */
+public record BookingStay(
+        Long roomId,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        LocalDateTime holdExpiresAt) {
+}
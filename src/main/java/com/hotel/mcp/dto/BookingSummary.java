@@ -0,0 +1,46 @@
+package com.hotel.mcp.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.hotel.mcp.entity.BookingStatus;
+import com.hotel.mcp.entity.RoomType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO for one row of a booking listing.
+ * The id and check-in date form the keyset cursor and are not returned to clients.
+ */
+public record BookingSummary(
+        @JsonIgnore Long id,
+        @JsonIgnore LocalDate checkIn,
+        String bookingReference,
+        String propertyCode,
+        String status,
+        String guestName,
+        String roomNumber,
+        String roomType,
+        String checkInDate,
+        String checkOutDate,
+        BigDecimal totalPrice) {
+
+    /**
+     * Projection constructor used by JPQL constructor expressions.
+     */
+    public BookingSummary(Long id, String bookingReference, String propertyCode, BookingStatus status,
+            String guestName,
+            String roomNumber, RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate,
+            BigDecimal totalPrice) {
+        this(
+                id,
+                checkInDate,
+                bookingReference,
+                propertyCode,
+                status.getDisplayName(),
+                guestName,
+                roomNumber,
+                roomType.getDisplayName(),
+                checkInDate.toString(),
+                checkOutDate.toString(),
+                totalPrice);
+    }
+}
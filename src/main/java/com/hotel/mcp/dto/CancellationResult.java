@@ -8,30 +8,34 @@ public record CancellationResult(
         String bookingReference,
         String previousStatus,
         String currentStatus,
-        String message) {
+        String message,
+        ToolOutcome outcome) implements ToolResult {
     public static CancellationResult success(String bookingReference, String previousStatus) {
         return new CancellationResult(
                 true,
                 bookingReference,
                 previousStatus,
                 "CANCELLED",
-                "Booking '" + bookingReference + "' has been successfully cancelled.");
+                "Booking '" + bookingReference + "' has been successfully cancelled.",
+                ToolOutcome.SUCCESS);
     }
 
-    public static CancellationResult failure(String bookingReference, String message) {
+    public static CancellationResult failure(String bookingReference, ToolOutcome outcome, String message) {
         return new CancellationResult(
-                false, bookingReference, null, null, message);
+                false, bookingReference, null, null, message, outcome);
     }
 
     public static CancellationResult notFound(String bookingReference) {
         return new CancellationResult(
                 false, bookingReference, null, null,
-                "Booking with reference '" + bookingReference + "' was not found.");
+                "Booking with reference '" + bookingReference + "' was not found.",
+                ToolOutcome.NOT_FOUND);
     }
 
     public static CancellationResult alreadyCancelled(String bookingReference) {
         return new CancellationResult(
                 false, bookingReference, "CANCELLED", "CANCELLED",
-                "Booking '" + bookingReference + "' is already cancelled.");
+                "Booking '" + bookingReference + "' is already cancelled.",
+                ToolOutcome.CONFLICT);
     }
 }
@@ -11,7 +11,8 @@ public record ConfirmationResult(
         String roomNumber,
         String checkInDate,
         String checkOutDate,
-        String message) {
+        String message,
+        ToolOutcome outcome) implements ToolResult {
     public static ConfirmationResult success(String bookingReference, String guestName,
             String roomNumber, String checkInDate,
             String checkOutDate) {
@@ -23,23 +24,26 @@ public record ConfirmationResult(
                 roomNumber,
                 checkInDate,
                 checkOutDate,
-                "Your booking has been confirmed! We look forward to welcoming you.");
+                "Your booking has been confirmed! We look forward to welcoming you.",
+                ToolOutcome.SUCCESS);
     }
 
-    public static ConfirmationResult failure(String bookingReference, String message) {
+    public static ConfirmationResult failure(String bookingReference, ToolOutcome outcome, String message) {
         return new ConfirmationResult(
-                false, bookingReference, null, null, null, null, null, message);
+                false, bookingReference, null, null, null, null, null, message, outcome);
     }
 
     public static ConfirmationResult notFound(String bookingReference) {
         return new ConfirmationResult(
                 false, bookingReference, null, null, null, null, null,
-                "Booking with reference '" + bookingReference + "' was not found.");
+                "Booking with reference '" + bookingReference + "' was not found.",
+                ToolOutcome.NOT_FOUND);
     }
 
     public static ConfirmationResult alreadyConfirmed(String bookingReference) {
         return new ConfirmationResult(
                 false, bookingReference, "CONFIRMED", null, null, null, null,
-                "Booking '" + bookingReference + "' is already confirmed.");
+                "Booking '" + bookingReference + "' is already confirmed.",
+                ToolOutcome.CONFLICT);
     }
 }
@@ -0,0 +1,77 @@
+package com.hotel.mcp.dto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * DTO for a flexible-date search: the cheapest stays of the requested
+ * length that fit in the date window.
+ */
+public record FlexibleSearchResult(
+        boolean success,
+        String propertyCode,
+        String roomType,
+        String windowStart,
+        String windowEnd,
+        int numberOfNights,
+        int feasibleOptionCount,
+        List<StayOption> options,
+        String message,
+        ToolOutcome outcome) implements ToolResult {
+
+    /**
+     * Cheapest first; ties go to the earliest check-in.
+     */
+    public static final Comparator<StayOption> CHEAPEST_FIRST = Comparator.comparing(StayOption::totalPrice)
+            .thenComparing(StayOption::checkInDate)
+            .thenComparing(StayOption::propertyCode)
+            .thenComparing(StayOption::roomNumber);
+
+    public static FlexibleSearchResult of(String propertyCode, String roomType, String windowStart,
+            String windowEnd, int numberOfNights, int feasibleOptionCount, List<StayOption> options) {
+        return new FlexibleSearchResult(
+                true,
+                propertyCode,
+                roomType,
+                windowStart,
+                windowEnd,
+                numberOfNights,
+                feasibleOptionCount,
+                options,
+                options.isEmpty()
+                        ? "Sorry, no " + numberOfNights + "-night stays are available between "
+                                + windowStart + " and " + windowEnd + "."
+                        : "Showing the " + options.size() + " cheapest of " + feasibleOptionCount
+                                + " available " + numberOfNights + "-night stay(s).",
+                ToolOutcome.SUCCESS);
+    }
+
+    public static FlexibleSearchResult error(ToolOutcome outcome, String message) {
+        return new FlexibleSearchResult(false, null, null, null, null, 0, 0, List.of(), message, outcome);
+    }
+
+    /**
+     * Merge per-property results, keeping the overall cheapest options.
+     */
+    public static FlexibleSearchResult merge(List<FlexibleSearchResult> results, int maxResults) {
+        if (results.isEmpty()) {
+            return error(ToolOutcome.NOT_FOUND, "No properties are available to search.");
+        }
+
+        List<StayOption> options = new ArrayList<>();
+        int feasible = 0;
+        for (FlexibleSearchResult result : results) {
+            if (!result.success()) {
+                return result;
+            }
+            options.addAll(result.options());
+            feasible += result.feasibleOptionCount();
+        }
+        options.sort(CHEAPEST_FIRST);
+
+        FlexibleSearchResult first = results.get(0);
+        return of(null, first.roomType(), first.windowStart(), first.windowEnd(), first.numberOfNights(),
+                feasible, List.copyOf(options.subList(0, Math.min(maxResults, options.size()))));
+    }
+}
@@ -0,0 +1,42 @@
+package com.hotel.mcp.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for a multi-room booking result.
+ */
+public record GroupBookingResult(
+        boolean success,
+        String propertyCode,
+        String checkInDate,
+        String checkOutDate,
+        int numberOfNights,
+        int roomCount,
+        BigDecimal totalPrice,
+        List<BookingResult> bookings,
+        String message,
+        ToolOutcome outcome) implements ToolResult {
+    public static GroupBookingResult success(String propertyCode, String checkInDate, String checkOutDate,
+            int numberOfNights, List<BookingResult> bookings) {
+        BigDecimal totalPrice = bookings.stream()
+                .map(BookingResult::totalPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new GroupBookingResult(
+                true,
+                propertyCode,
+                checkInDate,
+                checkOutDate,
+                numberOfNights,
+                bookings.size(),
+                totalPrice,
+                bookings,
+                bookings.size() + " room(s) booked successfully! Please confirm each booking using its reference.",
+                ToolOutcome.SUCCESS);
+    }
+
+    public static GroupBookingResult failure(ToolOutcome outcome, String message) {
+        return new GroupBookingResult(
+                false, null, null, null, 0, 0, null, List.of(), message + " No rooms were booked.", outcome);
+    }
+}
@@ -0,0 +1,40 @@
+package com.hotel.mcp.dto;
+
+import java.util.List;
+
+/**
+ * DTO for an occupancy report over a date range: totals, one row per room
+ * type and one row per calendar month.
+ */
+public record OccupancyReport(
+        boolean success,
+        String propertyCode,
+        String fromDate,
+        String toDate,
+        int numberOfDays,
+        OccupancyStats total,
+        List<OccupancyStats> roomTypes,
+        List<OccupancyStats> months,
+        String message,
+        ToolOutcome outcome) implements ToolResult {
+
+    public static OccupancyReport of(String propertyCode, String fromDate, String toDate, int numberOfDays,
+            OccupancyStats total, List<OccupancyStats> roomTypes, List<OccupancyStats> months) {
+        return new OccupancyReport(
+                true,
+                propertyCode,
+                fromDate,
+                toDate,
+                numberOfDays,
+                total,
+                roomTypes,
+                months,
+                total.roomNightsSold() + " of " + total.availableRoomNights() + " room nights sold ("
+                        + total.occupancyPercent() + "% occupancy) between " + fromDate + " and " + toDate + ".",
+                ToolOutcome.SUCCESS);
+    }
+
+    public static OccupancyReport error(ToolOutcome outcome, String message) {
+        return new OccupancyReport(false, null, null, null, 0, null, List.of(), List.of(), message, outcome);
+    }
+}
@@ -0,0 +1,39 @@
+package com.hotel.mcp.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * DTO for occupancy and revenue figures over a set of room nights.
+ *
+ * Occupancy is room nights sold over room nights available, as a
+ * percentage; ADR is revenue per room night sold and RevPAR is revenue per
+ * room night available.
+ */
+public record OccupancyStats(
+        String label,
+        long availableRoomNights,
+        long roomNightsSold,
+        BigDecimal occupancyPercent,
+        BigDecimal revenue,
+        BigDecimal averageDailyRate,
+        BigDecimal revPar) {
+
+    public static OccupancyStats of(String label, long availableRoomNights, long roomNightsSold,
+            BigDecimal revenue) {
+        return new OccupancyStats(
+                label,
+                availableRoomNights,
+                roomNightsSold,
+                ratio(BigDecimal.valueOf(roomNightsSold * 100), availableRoomNights),
+                revenue,
+                ratio(revenue, roomNightsSold),
+                ratio(revenue, availableRoomNights));
+    }
+
+    private static BigDecimal ratio(BigDecimal amount, long count) {
+        return count == 0
+                ? BigDecimal.ZERO.setScale(2)
+                : amount.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+}
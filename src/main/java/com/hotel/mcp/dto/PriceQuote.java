@@ -0,0 +1,41 @@
+package com.hotel.mcp.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for a price quote: what a stay would cost in each room type, with
+ * seasonal and weekend rates and any length-of-stay discount applied.
+ */
+public record PriceQuote(
+        boolean success,
+        String propertyCode,
+        String checkInDate,
+        String checkOutDate,
+        int numberOfNights,
+        BigDecimal lengthOfStayDiscountPercent,
+        List<RoomTypeQuote> roomTypes,
+        String message,
+        ToolOutcome outcome) implements ToolResult {
+
+    public static PriceQuote of(String propertyCode, String checkInDate, String checkOutDate, int numberOfNights,
+            BigDecimal lengthOfStayDiscountPercent, List<RoomTypeQuote> roomTypes) {
+        return new PriceQuote(
+                true,
+                propertyCode,
+                checkInDate,
+                checkOutDate,
+                numberOfNights,
+                lengthOfStayDiscountPercent,
+                roomTypes,
+                roomTypes.isEmpty()
+                        ? "No rooms of the requested type are offered at this property."
+                        : "Prices for " + numberOfNights + " night(s). Quotes do not check availability; "
+                                + "use check_availability before booking.",
+                ToolOutcome.SUCCESS);
+    }
+
+    public static PriceQuote error(ToolOutcome outcome, String message) {
+        return new PriceQuote(false, null, null, null, 0, null, List.of(), message, outcome);
+    }
+}
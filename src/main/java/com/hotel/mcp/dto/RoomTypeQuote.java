@@ -0,0 +1,15 @@
+package com.hotel.mcp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for the price of a stay in the cheapest room of one type.
+ */
+public record RoomTypeQuote(
+        String type,
+        String displayName,
+        String roomNumber,
+        BigDecimal basePricePerNight,
+        BigDecimal averagePricePerNight,
+        BigDecimal totalPrice) {
+}
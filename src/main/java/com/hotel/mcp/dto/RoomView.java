@@ -0,0 +1,30 @@
+package com.hotel.mcp.dto;
+
+import com.hotel.mcp.entity.RoomType;
+import java.math.BigDecimal;
+
+/**
+ * Read-only room projection used by availability searches.
+ * Selected directly by JPQL, so no Room entity enters the persistence context.
+ */
+public record RoomView(
+        Long id,
+        String propertyCode,
+        String roomNumber,
+        RoomType type,
+        String description,
+        String amenities,
+        BigDecimal pricePerNight,
+        Integer maxOccupancy) {
+    public AvailableRoom toAvailableRoom(BigDecimal totalPrice) {
+        return new AvailableRoom(
+                propertyCode,
+                roomNumber,
+                type.getDisplayName(),
+                description,
+                amenities,
+                pricePerNight,
+                totalPrice,
+                maxOccupancy);
+    }
+}
@@ -0,0 +1,17 @@
+package com.hotel.mcp.dto;
+
+import com.hotel.mcp.entity.RoomType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of a sold booking, as needed to rebuild the daily
+ * occupancy aggregates.
+ */
+public record SoldStay(
+        Long propertyId,
+        RoomType roomType,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        BigDecimal totalPrice) {
+}
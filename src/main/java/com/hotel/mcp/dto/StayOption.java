@@ -0,0 +1,16 @@
+package com.hotel.mcp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for one bookable (room, dates) option found by a flexible-date search.
+ */
+public record StayOption(
+        String propertyCode,
+        String roomNumber,
+        String roomType,
+        String checkInDate,
+        String checkOutDate,
+        BigDecimal pricePerNight,
+        BigDecimal totalPrice) {
+}
@@ -0,0 +1,42 @@
+package com.hotel.mcp.dto;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of a tool call, recorded as a metric tag.
+ * Tools report failures in their result DTOs rather than by throwing, so
+ * every result DTO carries the outcome it was built with.
+ */
+public enum ToolOutcome {
+    SUCCESS,
+    NOT_FOUND,
+    CONFLICT,
+    VALIDATION_ERROR,
+    ERROR;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Outcome of a tool's return value. A list succeeds if it is empty or any
+     * of its entries succeeded, and otherwise takes the outcome of its first
+     * entry; entries that are plain data count as successes. Anything else
+     * that does not carry an outcome is counted as an error, so a new tool
+     * that forgets to report one shows up rather than passing as a success.
+     */
+    public static ToolOutcome of(Object result) {
+        return switch (result) {
+            case ToolResult r -> r.outcome() != null ? r.outcome() : ERROR;
+            case List<?> list -> list.isEmpty() || list.stream().map(ToolOutcome::ofEntry).anyMatch(SUCCESS::equals)
+                    ? SUCCESS
+                    : ofEntry(list.get(0));
+            case null, default -> ERROR;
+        };
+    }
+
+    private static ToolOutcome ofEntry(Object entry) {
+        return entry instanceof ToolResult r ? of(r) : SUCCESS;
+    }
+}
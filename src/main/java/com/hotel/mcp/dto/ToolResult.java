@@ -0,0 +1,9 @@
+package com.hotel.mcp.dto;
+
+/**
+ * A tool result that states its own outcome, set where the result is built.
+ */
+public interface ToolResult {
+
+    ToolOutcome outcome();
+}
@@ -0,0 +1,31 @@
+package com.hotel.mcp.dto;
+
+import com.hotel.mcp.entity.RoomType;
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * DTO for the available rooms of one room type, cheapest stay first.
+ */
+public record TypeAvailability(
+        String type,
+        String displayName,
+        int availableRoomCount,
+        BigDecimal minPricePerNight,
+        List<AvailableRoom> availableRooms) {
+
+    private static final Comparator<AvailableRoom> CHEAPEST_FIRST = Comparator.comparing(AvailableRoom::totalPrice)
+            .thenComparing(AvailableRoom::propertyCode)
+            .thenComparing(AvailableRoom::roomNumber);
+
+    public static TypeAvailability of(RoomType type, List<AvailableRoom> rooms) {
+        List<AvailableRoom> sorted = rooms.stream().sorted(CHEAPEST_FIRST).toList();
+        return new TypeAvailability(
+                type.name(),
+                type.getDisplayName(),
+                sorted.size(),
+                sorted.stream().map(AvailableRoom::pricePerNight).min(Comparator.naturalOrder()).orElse(null),
+                sorted);
+    }
+}
@@ -0,0 +1,151 @@
+package com.hotel.mcp.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a booking moved out of the bookings table once its
+ * stay is long over. Rows are only written by {@code BookingLifecycleJob}
+ * and never change afterwards.
+ */
+@Entity
+@Table(name = "bookings_archive", indexes = {
+        @Index(name = "idx_bookings_archive_guest_email_check_in", columnList = "guest_email, check_in_date, id"),
+        @Index(name = "idx_bookings_archive_property_check_in", columnList = "property_id, check_in_date")
+})
+public class ArchivedBooking {
+
+    // Same id as the booking had in the bookings table
+    @Id
+    private Long id;
+
+    @Column(name = "booking_reference", unique = true, nullable = false)
+    private String bookingReference;
+
+    @Column(name = "guest_name", nullable = false)
+    private String guestName;
+
+    @Column(name = "guest_email", nullable = false)
+    private String guestEmail;
+
+    @Column(name = "guest_phone")
+    private String guestPhone;
+
+    // Plain column rather than a relation, so rooms can change without touching the archive
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "property_id")
+    private Long propertyId;
+
+    @Column(name = "check_in_date", nullable = false)
+    private LocalDate checkInDate;
+
+    @Column(name = "check_out_date", nullable = false)
+    private LocalDate checkOutDate;
+
+    @Column(name = "total_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalPrice;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BookingStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "number_of_guests")
+    private Integer numberOfGuests;
+
+    @Column(name = "special_requests", length = 1000)
+    private String specialRequests;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Default constructor
+    public ArchivedBooking() {
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getBookingReference() {
+        return bookingReference;
+    }
+
+    public String getGuestName() {
+        return guestName;
+    }
+
+    public String getGuestEmail() {
+        return guestEmail;
+    }
+
+    public String getGuestPhone() {
+        return guestPhone;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public Long getPropertyId() {
+        return propertyId;
+    }
+
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public BookingStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Integer getNumberOfGuests() {
+        return numberOfGuests;
+    }
+
+    public String getSpecialRequests() {
+        return specialRequests;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedBooking{" +
+                "id=" + id +
+                ", bookingReference='" + bookingReference + '\'' +
+                ", roomId=" + roomId +
+                ", checkInDate=" + checkInDate +
+                ", checkOutDate=" + checkOutDate +
+                ", status=" + status +
+                '}';
+    }
+}
@@ -9,11 +9,20 @@ import java.time.LocalDateTime;
  * Entity representing a hotel booking.
  */
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        // PostgreSQL creates this as a partial index on active bookings (see db/migration)
+        @Index(name = "idx_bookings_active_room_dates", columnList = "room_id, check_in_date, check_out_date"),
+        @Index(name = "idx_bookings_property_status", columnList = "property_id, status"),
+        @Index(name = "idx_bookings_property_check_in", columnList = "property_id, check_in_date, id"),
+        @Index(name = "idx_bookings_guest_email_check_in", columnList = "guest_email, check_in_date, id"),
+        // Partial index on pending bookings in PostgreSQL
+        @Index(name = "idx_bookings_pending_hold_expiry", columnList = "hold_expires_at")
+})
 public class Booking {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "booking_reference", unique = true, nullable = false)
@@ -28,10 +37,14 @@ public class Booking {
     @Column(name = "guest_phone")
     private String guestPhone;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", nullable = false)
     private Room room;
 
+    // Shard key, denormalized from the room so bookings can be pruned by property
+    @Column(name = "property_id")
+    private Long propertyId;
+
     @Column(name = "check_in_date", nullable = false)
     private LocalDate checkInDate;
 
@@ -45,6 +58,11 @@ public class Booking {
     @Column(nullable = false)
     private BookingStatus status;
 
+    // Until when a PENDING booking holds the room; expired holds count as free
+    // and are cancelled by HoldSweeper. Null for confirmed bookings and holds that never expire.
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -72,6 +90,7 @@ public class Booking {
         this.guestEmail = guestEmail;
         this.guestPhone = guestPhone;
         this.room = room;
+        this.propertyId = room.getProperty() != null ? room.getProperty().getId() : null;
         this.checkInDate = checkInDate;
         this.checkOutDate = checkOutDate;
         this.totalPrice = totalPrice;
@@ -133,6 +152,14 @@ public class Booking {
         this.room = room;
     }
 
+    public Long getPropertyId() {
+        return propertyId;
+    }
+
+    public void setPropertyId(Long propertyId) {
+        this.propertyId = propertyId;
+    }
+
     public LocalDate getCheckInDate() {
         return checkInDate;
     }
@@ -165,6 +192,21 @@ public class Booking {
         this.status = status;
     }
 
+    public LocalDateTime getHoldExpiresAt() {
+        return holdExpiresAt;
+    }
+
+    public void setHoldExpiresAt(LocalDateTime holdExpiresAt) {
+        this.holdExpiresAt = holdExpiresAt;
+    }
+
+    /**
+     * Whether this is a PENDING booking whose hold has run out.
+     */
+    public boolean isHoldExpired(LocalDateTime now) {
+        return status == BookingStatus.PENDING && holdExpiresAt != null && !holdExpiresAt.isAfter(now);
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -203,7 +245,7 @@ public class Booking {
                 "id=" + id +
                 ", bookingReference='" + bookingReference + '\'' +
                 ", guestName='" + guestName + '\'' +
-                ", room=" + (room != null ? room.getRoomNumber() : "null") +
+                ", roomId=" + (room != null ? room.getId() : "null") +
                 ", checkInDate=" + checkInDate +
                 ", checkOutDate=" + checkOutDate +
                 ", status=" + status +
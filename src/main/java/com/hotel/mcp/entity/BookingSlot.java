@@ -0,0 +1,121 @@
+package com.hotel.mcp.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Entity representing one day of a room held by an active booking.
+ *
+ * The (room_id, slot_date) primary key makes the database reject
+ * overlapping bookings even when they are created on different nodes.
+ * Like the availability queries, the check-out day is included.
+ */
+@Entity
+@Table(name = "booking_slots")
+@IdClass(BookingSlot.SlotId.class)
+public class BookingSlot implements Persistable<BookingSlot.SlotId> {
+
+    @Id
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Id
+    @Column(name = "slot_date", nullable = false)
+    private LocalDate slotDate;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    // Slots are always inserted, never merged, so a clash surfaces as a key violation
+    @Transient
+    private boolean isNew = true;
+
+    // Default constructor
+    public BookingSlot() {
+    }
+
+    // Constructor with fields
+    public BookingSlot(Long roomId, LocalDate slotDate, Long bookingId) {
+        this.roomId = roomId;
+        this.slotDate = slotDate;
+        this.bookingId = bookingId;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public SlotId getId() {
+        return new SlotId(roomId, slotDate);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    // Getters and Setters
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(Long roomId) {
+        this.roomId = roomId;
+    }
+
+    public LocalDate getSlotDate() {
+        return slotDate;
+    }
+
+    public void setSlotDate(LocalDate slotDate) {
+        this.slotDate = slotDate;
+    }
+
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    public void setBookingId(Long bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    /**
+     * Composite primary key of a booking slot.
+     */
+    public static class SlotId implements Serializable {
+
+        private Long roomId;
+        private LocalDate slotDate;
+
+        public SlotId() {
+        }
+
+        public SlotId(Long roomId, LocalDate slotDate) {
+            this.roomId = roomId;
+            this.slotDate = slotDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SlotId other)) {
+                return false;
+            }
+            return Objects.equals(roomId, other.roomId) && Objects.equals(slotDate, other.slotDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(roomId, slotDate);
+        }
+    }
+}
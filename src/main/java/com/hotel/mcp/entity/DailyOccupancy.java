@@ -0,0 +1,67 @@
+package com.hotel.mcp.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Entity holding the room nights sold and room revenue for one property,
+ * night and room type.
+ *
+ * Rows are maintained incrementally as bookings are confirmed and cancelled,
+ * so occupancy reports never scan the bookings table. Only confirmed and
+ * completed bookings count as sold. Each night carries an equal share of the
+ * booking's total price, with the rounding remainder on the last night.
+ */
+@Entity
+@IdClass(DailyOccupancyId.class)
+@Table(name = "daily_occupancy", indexes = {
+        @Index(name = "idx_daily_occupancy_stay_date", columnList = "stay_date")
+})
+public class DailyOccupancy {
+
+    @Id
+    @Column(name = "property_id")
+    private Long propertyId;
+
+    @Id
+    @Column(name = "stay_date")
+    private LocalDate stayDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "room_type")
+    private RoomType roomType;
+
+    @Column(name = "rooms_sold", nullable = false)
+    private int roomsSold;
+
+    @Column(name = "room_revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal roomRevenue;
+
+    // Default constructor
+    public DailyOccupancy() {
+    }
+
+    // Getters
+    public Long getPropertyId() {
+        return propertyId;
+    }
+
+    public LocalDate getStayDate() {
+        return stayDate;
+    }
+
+    public RoomType getRoomType() {
+        return roomType;
+    }
+
+    public int getRoomsSold() {
+        return roomsSold;
+    }
+
+    public BigDecimal getRoomRevenue() {
+        return roomRevenue;
+    }
+}
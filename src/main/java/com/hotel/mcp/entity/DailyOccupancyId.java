@@ -0,0 +1,38 @@
+package com.hotel.mcp.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Composite key of {@link DailyOccupancy}: one row per property, night and room type.
+ */
+public class DailyOccupancyId implements Serializable {
+
+    private Long propertyId;
+    private LocalDate stayDate;
+    private RoomType roomType;
+
+    // Default constructor
+    public DailyOccupancyId() {
+    }
+
+    public DailyOccupancyId(Long propertyId, LocalDate stayDate, RoomType roomType) {
+        this.propertyId = propertyId;
+        this.stayDate = stayDate;
+        this.roomType = roomType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof DailyOccupancyId other
+                && Objects.equals(propertyId, other.propertyId)
+                && Objects.equals(stayDate, other.stayDate)
+                && roomType == other.roomType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(propertyId, stayDate, roomType);
+    }
+}
@@ -0,0 +1,105 @@
+package com.hotel.mcp.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording a mutating tool call made with an idempotency key.
+ *
+ * The row is inserted before the call runs, so a concurrent retry with the
+ * same key fails on the primary key instead of booking twice. Once the call
+ * succeeds its result is stored as JSON and replayed to later retries until
+ * the row expires.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+public class IdempotencyKey implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 200)
+    private String key;
+
+    @Column(nullable = false, length = 50)
+    private String tool;
+
+    // SHA-256 of the call arguments, so a key reused for a different request is rejected
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    // Null while the call is in progress
+    @Column(columnDefinition = "TEXT")
+    private String response;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Keys are always inserted, never merged, so a concurrent claim surfaces as a key violation
+    @Transient
+    private boolean isNew = true;
+
+    // Default constructor
+    public IdempotencyKey() {
+    }
+
+    // Constructor with fields
+    public IdempotencyKey(String key, String tool, String requestHash, LocalDateTime createdAt,
+            LocalDateTime expiresAt) {
+        this.key = key;
+        this.tool = tool;
+        this.requestHash = requestHash;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    // Getters and Setters
+    public String getKey() {
+        return key;
+    }
+
+    public String getTool() {
+        return tool;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public String getResponse() {
+        return response;
+    }
+
+    public void setResponse(String response) {
+        this.response = response;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
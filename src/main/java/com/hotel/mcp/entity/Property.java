@@ -0,0 +1,93 @@
+package com.hotel.mcp.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity representing a hotel property.
+ * Rooms and bookings are partitioned by property.
+ */
+@Entity
+@Table(name = "properties")
+public class Property {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "properties_seq")
+    @SequenceGenerator(name = "properties_seq", sequenceName = "properties_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(unique = true, nullable = false, length = 32)
+    private String code;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column
+    private String city;
+
+    @Column(nullable = false)
+    private boolean active = true;
+
+    // Default constructor
+    public Property() {
+    }
+
+    // Constructor with fields
+    public Property(String code, String name, String city) {
+        this.code = code;
+        this.name = name;
+        this.city = city;
+        this.active = true;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    @Override
+    public String toString() {
+        return "Property{" +
+                "id=" + id +
+                ", code='" + code + '\'' +
+                ", name='" + name + '\'' +
+                ", city='" + city + '\'' +
+                ", active=" + active +
+                '}';
+    }
+}
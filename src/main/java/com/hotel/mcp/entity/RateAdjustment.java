@@ -0,0 +1,115 @@
+package com.hotel.mcp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * Entity for one rate calendar rule: a per-night surcharge (or, if
+ * negative, discount) on the base price of every room of a type in a
+ * property, for the nights from start to end date on the given weekdays.
+ *
+ * Rules are ranges rather than one row per night, so a season or a year of
+ * weekend surcharges is a single row. Overlapping rules add up.
+ */
+@Entity
+@Table(name = "rate_adjustments", indexes = {
+        @Index(name = "idx_rate_adjustments_property_type", columnList = "property_id, room_type")
+})
+public class RateAdjustment {
+
+    /**
+     * Weekday mask matching every night.
+     */
+    public static final int ALL_DAYS = 0b1111111;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "property_id", nullable = false)
+    private Long propertyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "room_type", nullable = false)
+    private RoomType roomType;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    // Last night the rule applies to, inclusive
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    // Bit 0 is Monday through bit 6 for Sunday
+    @Column(name = "days_of_week", nullable = false)
+    private int daysOfWeek = ALL_DAYS;
+
+    // Added to the room's price for each matching night, in paise
+    @Column(name = "adjustment_paise", nullable = false)
+    private long adjustmentPaise;
+
+    @Column
+    private String description;
+
+    // Default constructor
+    public RateAdjustment() {
+    }
+
+    // Constructor with fields
+    public RateAdjustment(Long propertyId, RoomType roomType, LocalDate startDate, LocalDate endDate,
+            int daysOfWeek, long adjustmentPaise, String description) {
+        this.propertyId = propertyId;
+        this.roomType = roomType;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.daysOfWeek = daysOfWeek;
+        this.adjustmentPaise = adjustmentPaise;
+        this.description = description;
+    }
+
+    /**
+     * Whether the rule applies to the given night.
+     */
+    public boolean appliesTo(LocalDate night) {
+        return !night.isBefore(startDate) && !night.isAfter(endDate) && appliesOn(night.getDayOfWeek());
+    }
+
+    public boolean appliesOn(DayOfWeek dayOfWeek) {
+        return (daysOfWeek & (1 << (dayOfWeek.getValue() - 1))) != 0;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getPropertyId() {
+        return propertyId;
+    }
+
+    public RoomType getRoomType() {
+        return roomType;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public int getDaysOfWeek() {
+        return daysOfWeek;
+    }
+
+    public long getAdjustmentPaise() {
+        return adjustmentPaise;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
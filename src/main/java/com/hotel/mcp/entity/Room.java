@@ -7,14 +7,24 @@ import java.math.BigDecimal;
  * Entity representing a hotel room.
  */
 @Entity
-@Table(name = "rooms")
+@EntityListeners(RoomEntityListener.class)
+@Table(name = "rooms", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rooms_property_room_number", columnNames = { "property_id", "room_number" })
+}, indexes = {
+        @Index(name = "idx_rooms_property_type", columnList = "property_id, type")
+})
 public class Room {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rooms_seq")
+    @SequenceGenerator(name = "rooms_seq", sequenceName = "rooms_seq", allocationSize = 50)
     private Long id;
 
-    @Column(name = "room_number", unique = true, nullable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "property_id")
+    private Property property;
+
+    @Column(name = "room_number", nullable = false)
     private String roomNumber;
 
     @Enumerated(EnumType.STRING)
@@ -61,6 +71,14 @@ public class Room {
         this.id = id;
     }
 
+    public Property getProperty() {
+        return property;
+    }
+
+    public void setProperty(Property property) {
+        this.property = property;
+    }
+
     public String getRoomNumber() {
         return roomNumber;
     }
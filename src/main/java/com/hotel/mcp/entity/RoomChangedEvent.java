@@ -0,0 +1,7 @@
+package com.hotel.mcp.entity;
+
+/**
+ * Application event published whenever a room is created, updated or deleted.
+ */
+public record RoomChangedEvent(Long roomId) {
+}
@@ -0,0 +1,28 @@
+package com.hotel.mcp.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener that turns room writes into {@link RoomChangedEvent}s.
+ * Bulk JPQL updates bypass entity listeners and must publish the event themselves.
+ */
+@Component
+public class RoomEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RoomEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onRoomChanged(Room room) {
+        eventPublisher.publishEvent(new RoomChangedEvent(room.getId()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.hotel.mcp.importer;
+
+import com.hotel.mcp.entity.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A validated booking row from a booking history file.
+ *
+ * Columns: booking_reference, guest_name, guest_email, guest_phone
+ * (optional), property_code (optional), room_number, check_in_date,
+ * check_out_date, total_price (optional, defaults to the room rate times the
+ * nights), status (optional, defaults to PENDING), created_at (optional).
+ */
+record BookingRecord(
+        String bookingReference,
+        String guestName,
+        String guestEmail,
+        String guestPhone,
+        long roomId,
+        long propertyId,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        BigDecimal totalPrice,
+        BookingStatus status,
+        LocalDateTime createdAt) {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+
+    static BookingRecord from(Map<String, String> fields, ImportContext context) {
+        String reference = ImportFields.required(fields, "booking_reference");
+        String guestName = ImportFields.required(fields, "guest_name");
+        String guestEmail = ImportFields.required(fields, "guest_email");
+        if (!EMAIL_PATTERN.matcher(guestEmail).matches()) {
+            throw new IllegalArgumentException("invalid guest_email '" + guestEmail + "'");
+        }
+
+        ImportContext.RoomRef room = context.room(
+                ImportFields.optional(fields, "property_code"), ImportFields.required(fields, "room_number"));
+        LocalDate checkIn = ImportFields.date(fields, "check_in_date");
+        LocalDate checkOut = ImportFields.date(fields, "check_out_date");
+        if (!checkOut.isAfter(checkIn)) {
+            throw new IllegalArgumentException("check_out_date must be after check_in_date");
+        }
+
+        BigDecimal totalPrice = ImportFields.optional(fields, "total_price") != null
+                ? ImportFields.positiveDecimal(fields, "total_price")
+                : room.pricePerNight().multiply(BigDecimal.valueOf(checkOut.toEpochDay() - checkIn.toEpochDay()));
+        BookingStatus status = ImportFields.optional(fields, "status") != null
+                ? ImportFields.enumValue(fields, "status", BookingStatus.class)
+                : BookingStatus.PENDING;
+        LocalDateTime createdAt = ImportFields.optional(fields, "created_at") != null
+                ? ImportFields.dateTime(fields, "created_at")
+                : LocalDateTime.now();
+
+        return new BookingRecord(
+                reference,
+                guestName,
+                guestEmail.toLowerCase(),
+                ImportFields.optional(fields, "guest_phone"),
+                room.id(),
+                room.propertyId(),
+                checkIn,
+                checkOut,
+                totalPrice,
+                status,
+                createdAt);
+    }
+
+    /**
+     * Whether the booking still holds its room and needs day slots.
+     */
+    boolean isActive() {
+        return status == BookingStatus.PENDING || status == BookingStatus.CONFIRMED;
+    }
+}
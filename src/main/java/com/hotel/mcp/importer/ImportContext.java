@@ -0,0 +1,50 @@
+package com.hotel.mcp.importer;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Lookups the record validators resolve references against. Immutable, so
+ * it can be shared by all validation threads.
+ */
+final class ImportContext {
+
+    record RoomRef(long id, long propertyId, BigDecimal pricePerNight) {
+    }
+
+    private final String defaultPropertyCode;
+    private final Map<String, Long> propertyIds;
+    private final Map<String, RoomRef> rooms;
+
+    ImportContext(String defaultPropertyCode, Map<String, Long> propertyIds, Map<String, RoomRef> rooms) {
+        this.defaultPropertyCode = defaultPropertyCode;
+        this.propertyIds = Map.copyOf(propertyIds);
+        this.rooms = Map.copyOf(rooms);
+    }
+
+    long propertyId(String propertyCode) {
+        String code = code(propertyCode);
+        Long id = propertyIds.get(code);
+        if (id == null) {
+            throw new IllegalArgumentException("unknown property_code '" + code + "'");
+        }
+        return id;
+    }
+
+    RoomRef room(String propertyCode, String roomNumber) {
+        String code = code(propertyCode);
+        RoomRef room = rooms.get(roomKey(code, roomNumber));
+        if (room == null) {
+            throw new IllegalArgumentException("unknown room '" + roomNumber + "' in property '" + code + "'");
+        }
+        return room;
+    }
+
+    static String roomKey(String propertyCode, String roomNumber) {
+        return propertyCode + '/' + roomNumber;
+    }
+
+    private String code(String propertyCode) {
+        return propertyCode == null ? defaultPropertyCode : propertyCode.toUpperCase();
+    }
+}
@@ -0,0 +1,83 @@
+package com.hotel.mcp.importer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * Field accessors shared by the record validators. Every failure is an
+ * {@link IllegalArgumentException} whose message names the field.
+ */
+final class ImportFields {
+
+    private ImportFields() {
+    }
+
+    static String optional(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    static String required(Map<String, String> fields, String name) {
+        String value = optional(fields, name);
+        if (value == null) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        return value;
+    }
+
+    static BigDecimal positiveDecimal(Map<String, String> fields, String name) {
+        String value = required(fields, name);
+        try {
+            BigDecimal decimal = new BigDecimal(value);
+            if (decimal.signum() <= 0) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return decimal;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid " + name + " '" + value + "'");
+        }
+    }
+
+    static int positiveInt(Map<String, String> fields, String name) {
+        String value = required(fields, name);
+        try {
+            int number = Integer.parseInt(value);
+            if (number <= 0) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid " + name + " '" + value + "'");
+        }
+    }
+
+    static LocalDate date(Map<String, String> fields, String name) {
+        String value = required(fields, name);
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid " + name + " '" + value + "' (expected YYYY-MM-DD)");
+        }
+    }
+
+    static LocalDateTime dateTime(Map<String, String> fields, String name) {
+        String value = required(fields, name);
+        try {
+            return LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid " + name + " '" + value + "' (expected YYYY-MM-DD HH:MM:SS)");
+        }
+    }
+
+    static <E extends Enum<E>> E enumValue(Map<String, String> fields, String name, Class<E> type) {
+        String value = required(fields, name);
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid " + name + " '" + value + "'");
+        }
+    }
+}
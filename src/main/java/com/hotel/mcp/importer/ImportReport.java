@@ -0,0 +1,15 @@
+package com.hotel.mcp.importer;
+
+/**
+ * Outcome of importing one file.
+ */
+public record ImportReport(
+        String file,
+        long imported,
+        long rejected,
+        long elapsedMillis) {
+
+    public long rowsPerSecond() {
+        return imported * 1000 / Math.max(elapsedMillis, 1);
+    }
+}
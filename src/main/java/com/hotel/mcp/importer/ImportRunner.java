@@ -0,0 +1,54 @@
+package com.hotel.mcp.importer;
+
+import com.hotel.mcp.entity.Property;
+import com.hotel.mcp.repository.PropertyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Loads inventory and booking files on startup instead of the sample data
+ * from {@link com.hotel.mcp.config.DataInitializer}. Enabled with
+ * {@code hotel.import.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "hotel.import", name = "enabled", havingValue = "true")
+public class ImportRunner implements CommandLineRunner {
+
+    private final InventoryImporter importer;
+    private final PropertyRepository propertyRepository;
+    private final String defaultPropertyCode;
+    private final String propertiesFile;
+    private final String roomsFile;
+    private final String bookingsFile;
+
+    public ImportRunner(InventoryImporter importer, PropertyRepository propertyRepository,
+            @Value("${hotel.default-property-code:MAIN}") String defaultPropertyCode,
+            @Value("${hotel.import.properties-file:}") String propertiesFile,
+            @Value("${hotel.import.rooms-file:}") String roomsFile,
+            @Value("${hotel.import.bookings-file:}") String bookingsFile) {
+        this.importer = importer;
+        this.propertyRepository = propertyRepository;
+        this.defaultPropertyCode = defaultPropertyCode;
+        this.propertiesFile = propertiesFile;
+        this.roomsFile = roomsFile;
+        this.bookingsFile = bookingsFile;
+    }
+
+    @Override
+    public void run(String... args) {
+        // Rows without a property code belong to the default property
+        if (propertyRepository.findByCode(defaultPropertyCode).isEmpty()) {
+            propertyRepository.save(new Property(defaultPropertyCode, "Grand Demo Hotel", "Bengaluru"));
+        }
+
+        importer.importAll(path(propertiesFile), path(roomsFile), path(bookingsFile));
+    }
+
+    private static Path path(String file) {
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+}
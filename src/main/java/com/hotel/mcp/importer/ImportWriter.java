@@ -0,0 +1,206 @@
+package com.hotel.mcp.importer;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Writes validated rows with PostgreSQL {@code COPY} or JDBC batch inserts.
+ *
+ * Ids are drawn from the entity sequences in blocks the same way
+ * Hibernate's pooled optimizer does, so imported rows never collide with
+ * ids Hibernate hands out later. Day slots for active bookings are written
+ * alongside the bookings.
+ */
+final class ImportWriter {
+
+    /** Must match allocationSize on the entity sequence generators. */
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private final Connection connection;
+    private final boolean postgres;
+    private final boolean copy;
+
+    ImportWriter(Connection connection, boolean postgres, boolean copy) {
+        this.connection = connection;
+        this.postgres = postgres;
+        this.copy = copy && postgres;
+    }
+
+    boolean usesCopy() {
+        return copy;
+    }
+
+    void writeRooms(List<RoomRecord> rooms) throws SQLException {
+        long[] ids = allocateIds("rooms_seq", rooms.size());
+        if (copy) {
+            StringBuilder csv = new StringBuilder(rooms.size() * 128);
+            for (int i = 0; i < rooms.size(); i++) {
+                RoomRecord room = rooms.get(i);
+                csvRow(csv, ids[i], room.propertyId(), room.roomNumber(), room.type().name(), room.pricePerNight(),
+                        room.description(), room.amenities(), room.maxOccupancy(), room.available());
+            }
+            copyIn("""
+                    COPY rooms (id, property_id, room_number, type, price_per_night, description, amenities,
+                                max_occupancy, available) FROM STDIN (FORMAT csv)""", csv);
+            return;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO rooms (id, property_id, room_number, type, price_per_night, description, amenities,
+                                   max_occupancy, available)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            for (int i = 0; i < rooms.size(); i++) {
+                RoomRecord room = rooms.get(i);
+                statement.setLong(1, ids[i]);
+                statement.setLong(2, room.propertyId());
+                statement.setString(3, room.roomNumber());
+                statement.setString(4, room.type().name());
+                statement.setBigDecimal(5, room.pricePerNight());
+                statement.setString(6, room.description());
+                statement.setString(7, room.amenities());
+                statement.setInt(8, room.maxOccupancy());
+                statement.setBoolean(9, room.available());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    void writeBookings(List<BookingRecord> bookings) throws SQLException {
+        long[] ids = allocateIds("bookings_seq", bookings.size());
+        if (copy) {
+            StringBuilder csv = new StringBuilder(bookings.size() * 160);
+            StringBuilder slots = new StringBuilder();
+            for (int i = 0; i < bookings.size(); i++) {
+                BookingRecord booking = bookings.get(i);
+                csvRow(csv, ids[i], booking.bookingReference(), booking.guestName(), booking.guestEmail(),
+                        booking.guestPhone(), booking.roomId(), booking.propertyId(), booking.checkInDate(),
+                        booking.checkOutDate(), booking.totalPrice(), booking.status().name(),
+                        Timestamp.valueOf(booking.createdAt()));
+                if (booking.isActive()) {
+                    for (LocalDate day = booking.checkInDate(); !day.isAfter(booking.checkOutDate()); day = day.plusDays(1)) {
+                        csvRow(slots, booking.roomId(), day, ids[i]);
+                    }
+                }
+            }
+            copyIn("""
+                    COPY bookings (id, booking_reference, guest_name, guest_email, guest_phone, room_id, property_id,
+                                   check_in_date, check_out_date, total_price, status, created_at)
+                    FROM STDIN (FORMAT csv)""", csv);
+            if (!slots.isEmpty()) {
+                copyIn("COPY booking_slots (room_id, slot_date, booking_id) FROM STDIN (FORMAT csv)", slots);
+            }
+            return;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO bookings (id, booking_reference, guest_name, guest_email, guest_phone, room_id,
+                                      property_id, check_in_date, check_out_date, total_price, status, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """);
+                PreparedStatement slotStatement = connection.prepareStatement(
+                        "INSERT INTO booking_slots (room_id, slot_date, booking_id) VALUES (?, ?, ?)")) {
+            boolean anySlots = false;
+            for (int i = 0; i < bookings.size(); i++) {
+                BookingRecord booking = bookings.get(i);
+                statement.setLong(1, ids[i]);
+                statement.setString(2, booking.bookingReference());
+                statement.setString(3, booking.guestName());
+                statement.setString(4, booking.guestEmail());
+                statement.setString(5, booking.guestPhone());
+                statement.setLong(6, booking.roomId());
+                statement.setLong(7, booking.propertyId());
+                statement.setDate(8, Date.valueOf(booking.checkInDate()));
+                statement.setDate(9, Date.valueOf(booking.checkOutDate()));
+                statement.setBigDecimal(10, booking.totalPrice());
+                statement.setString(11, booking.status().name());
+                statement.setTimestamp(12, Timestamp.valueOf(booking.createdAt()));
+                statement.addBatch();
+
+                if (booking.isActive()) {
+                    for (LocalDate day = booking.checkInDate(); !day.isAfter(booking.checkOutDate()); day = day.plusDays(1)) {
+                        slotStatement.setLong(1, booking.roomId());
+                        slotStatement.setDate(2, Date.valueOf(day));
+                        slotStatement.setLong(3, ids[i]);
+                        slotStatement.addBatch();
+                        anySlots = true;
+                    }
+                }
+            }
+            statement.executeBatch();
+            if (anySlots) {
+                slotStatement.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Reserve ids from a pooled sequence: each value v it returns owns the
+     * block (v - 49 .. v), clipped at 1 for a freshly created sequence.
+     */
+    private long[] allocateIds(String sequence, int count) throws SQLException {
+        String sql = postgres
+                ? "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)"
+                : "SELECT NEXT VALUE FOR " + sequence + " FROM SYSTEM_RANGE(1, ?)";
+
+        long[] ids = new long[count];
+        int filled = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            while (filled < count) {
+                statement.setInt(1, (count - filled + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next() && filled < count) {
+                        long high = resultSet.getLong(1);
+                        for (long id = Math.max(1, high - ID_BLOCK_SIZE + 1); id <= high && filled < count; id++) {
+                            ids[filled++] = id;
+                        }
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void copyIn(String sql, CharSequence rows) throws SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        try {
+            copyManager.copyIn(sql, new StringReader(rows.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void csvRow(StringBuilder out, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof String text) {
+                out.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else if (value instanceof BigDecimal decimal) {
+                out.append(decimal.toPlainString());
+            } else {
+                out.append(value);
+            }
+        }
+        out.append('\n');
+    }
+}
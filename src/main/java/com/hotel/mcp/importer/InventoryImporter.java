@@ -0,0 +1,317 @@
+package com.hotel.mcp.importer;
+
+import com.hotel.mcp.entity.Property;
+import com.hotel.mcp.repository.PropertyRepository;
+import com.hotel.mcp.service.AvailabilityIndex;
+import com.hotel.mcp.service.OccupancyService;
+import com.hotel.mcp.service.RoomCatalogCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Streams property, room and booking files into the database.
+ *
+ * Lines are read through a memory-mapped reader and handed out in chunks
+ * to the import executor for parsing and validation. Validated chunks are
+ * written in file order on the calling thread with {@code COPY} (PostgreSQL)
+ * or JDBC batch inserts, one transaction per file. At most a fixed number of
+ * chunks is in flight, so memory use stays constant whatever the file size.
+ * Invalid rows are skipped and reported; database errors abort the file.
+ */
+@Service
+public class InventoryImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryImporter.class);
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PropertyRepository propertyRepository;
+    private final RoomCatalogCache roomCatalogCache;
+    private final AvailabilityIndex availabilityIndex;
+    private final OccupancyService occupancyService;
+    private final Executor importExecutor;
+    private final String defaultPropertyCode;
+    private final String mode;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+    private final int maxLoggedErrors;
+
+    public InventoryImporter(DataSource dataSource, PlatformTransactionManager transactionManager,
+            PropertyRepository propertyRepository, RoomCatalogCache roomCatalogCache,
+            AvailabilityIndex availabilityIndex, OccupancyService occupancyService,
+            @Qualifier("importExecutor") Executor importExecutor,
+            @Value("${hotel.default-property-code:MAIN}") String defaultPropertyCode,
+            @Value("${hotel.import.mode:auto}") String mode,
+            @Value("${hotel.import.chunk-size:5000}") int chunkSize,
+            @Value("${hotel.import.parallelism:4}") int parallelism,
+            @Value("${hotel.import.max-logged-errors:20}") int maxLoggedErrors) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.propertyRepository = propertyRepository;
+        this.roomCatalogCache = roomCatalogCache;
+        this.availabilityIndex = availabilityIndex;
+        this.occupancyService = occupancyService;
+        this.importExecutor = importExecutor;
+        this.defaultPropertyCode = defaultPropertyCode;
+        this.mode = mode;
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = parallelism * 2;
+        this.maxLoggedErrors = maxLoggedErrors;
+    }
+
+    /**
+     * Import whichever of the three files are given (null to skip), in
+     * dependency order, then refresh the room catalog and availability index,
+     * and the occupancy aggregates if bookings were imported.
+     */
+    public List<ImportReport> importAll(Path propertiesFile, Path roomsFile, Path bookingsFile) {
+        List<ImportReport> reports = new ArrayList<>();
+        if (propertiesFile != null) {
+            reports.add(importProperties(propertiesFile));
+        }
+        if (roomsFile != null) {
+            reports.add(importRooms(roomsFile));
+        }
+        if (bookingsFile != null) {
+            reports.add(importBookings(bookingsFile));
+        }
+
+        roomCatalogCache.invalidate();
+        availabilityIndex.rebuild();
+        if (bookingsFile != null) {
+            // Imported bookings bypass BookingService, so their nights were never counted
+            occupancyService.rebuild();
+        }
+        return reports;
+    }
+
+    /**
+     * Create or update properties (code, name, city, active). Property files
+     * are small, so rows are validated and saved one by one.
+     */
+    public ImportReport importProperties(Path file) {
+        return run(file, PropertyRecord::from, (writer, rows) -> {
+            for (PropertyRecord row : rows) {
+                Property property = propertyRepository.findByCode(row.code())
+                        .orElseGet(() -> new Property(row.code(), row.code(), null));
+                if (row.name() != null) {
+                    property.setName(row.name());
+                }
+                property.setCity(row.city());
+                property.setActive(row.active());
+                propertyRepository.save(property);
+            }
+        }, false);
+    }
+
+    public ImportReport importRooms(Path file) {
+        return run(file, RoomRecord::from, ImportWriter::writeRooms, false);
+    }
+
+    public ImportReport importBookings(Path file) {
+        return run(file, BookingRecord::from, ImportWriter::writeBookings, true);
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        void write(ImportWriter writer, List<T> rows) throws SQLException;
+    }
+
+    private <T> ImportReport run(Path file, BiFunction<Map<String, String>, ImportContext, T> validator,
+            ChunkWriter<T> chunkWriter, boolean needsRooms) {
+        long start = System.nanoTime();
+        ImportContext context = loadContext(needsRooms);
+
+        long[] counts = transactionTemplate.execute(status -> {
+            Connection connection = DataSourceUtils.getConnection(dataSource);
+            try {
+                ImportWriter writer = newWriter(connection);
+                log.info("Importing {} using {}", file, writer.usesCopy() ? "COPY" : "JDBC batch inserts");
+                return stream(file, validator, context, rows -> chunkWriter.write(writer, rows));
+            } catch (SQLException e) {
+                throw new IllegalStateException("Import of " + file + " failed: " + e.getMessage(), e);
+            }
+        });
+
+        ImportReport report = new ImportReport(file.toString(), counts[0], counts[1],
+                (System.nanoTime() - start) / 1_000_000);
+        log.info("Imported {} rows from {} in {} ms ({} rows/s), {} rejected",
+                report.imported(), report.file(), report.elapsedMillis(), report.rowsPerSecond(), report.rejected());
+        return report;
+    }
+
+    @FunctionalInterface
+    private interface SqlConsumer<T> {
+        void accept(T value) throws SQLException;
+    }
+
+    /**
+     * Read, validate in parallel and write one file.
+     *
+     * @return imported and rejected row counts
+     */
+    private <T> long[] stream(Path file, BiFunction<Map<String, String>, ImportContext, T> validator, ImportContext context,
+            SqlConsumer<List<T>> sink) throws SQLException {
+        RecordFormat format = RecordFormat.of(file);
+        Deque<CompletableFuture<Chunk<T>>> inFlight = new ArrayDeque<>();
+        long[] counts = new long[2];
+
+        try (MappedLineReader reader = new MappedLineReader(file)) {
+            long lineNumber = 1;
+            Function<String, Map<String, String>> parser;
+            if (format.hasHeader()) {
+                String header = reader.readLine();
+                if (header == null) {
+                    return counts;
+                }
+                parser = format.parser(header);
+                lineNumber++;
+            } else {
+                parser = format.parser(null);
+            }
+
+            List<String> chunk = new ArrayList<>(chunkSize);
+            long chunkStart = lineNumber;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                chunk.add(line);
+                lineNumber++;
+                if (chunk.size() == chunkSize) {
+                    inFlight.add(validate(chunk, chunkStart, parser, validator, context));
+                    chunk = new ArrayList<>(chunkSize);
+                    chunkStart = lineNumber;
+                    if (inFlight.size() >= maxChunksInFlight) {
+                        write(inFlight.poll(), file, sink, counts);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                inFlight.add(validate(chunk, chunkStart, parser, validator, context));
+            }
+            while (!inFlight.isEmpty()) {
+                write(inFlight.poll(), file, sink, counts);
+            }
+            return counts;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + file, e);
+        } finally {
+            inFlight.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private <T> CompletableFuture<Chunk<T>> validate(List<String> lines, long firstLine,
+            Function<String, Map<String, String>> parser,
+            BiFunction<Map<String, String>, ImportContext, T> validator, ImportContext context) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<T> rows = new ArrayList<>(lines.size());
+            List<String> errors = new ArrayList<>();
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    rows.add(validator.apply(parser.apply(line), context));
+                } catch (IllegalArgumentException e) {
+                    errors.add("line " + (firstLine + i) + ": " + e.getMessage());
+                }
+            }
+            return new Chunk<>(rows, errors);
+        }, importExecutor);
+    }
+
+    private <T> void write(CompletableFuture<Chunk<T>> future, Path file, SqlConsumer<List<T>> sink, long[] counts)
+            throws SQLException {
+        Chunk<T> chunk;
+        try {
+            chunk = future.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Validation of " + file + " failed", e.getCause());
+        }
+
+        for (String error : chunk.errors()) {
+            if (counts[1]++ < maxLoggedErrors) {
+                log.warn("Rejected row in {}, {}", file, error);
+            }
+        }
+        if (!chunk.rows().isEmpty()) {
+            sink.accept(chunk.rows());
+            counts[0] += chunk.rows().size();
+        }
+    }
+
+    private ImportWriter newWriter(Connection connection) throws SQLException {
+        boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+        boolean copy = switch (mode.toLowerCase()) {
+            case "copy", "auto" -> postgres;
+            case "batch" -> false;
+            default -> throw new IllegalArgumentException("Unknown hotel.import.mode: " + mode);
+        };
+        if ("copy".equalsIgnoreCase(mode) && !postgres) {
+            log.warn("COPY needs PostgreSQL; importing with JDBC batch inserts instead");
+        }
+        return new ImportWriter(connection, postgres, copy);
+    }
+
+    private ImportContext loadContext(boolean withRooms) {
+        Map<String, Long> propertyIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, code FROM properties",
+                (RowCallbackHandler) rs -> propertyIds.put(rs.getString("code"), rs.getLong("id")));
+
+        Map<String, ImportContext.RoomRef> rooms = new HashMap<>();
+        if (withRooms) {
+            jdbcTemplate.query("""
+                    SELECT r.id, r.property_id, p.code, r.room_number, r.price_per_night
+                    FROM rooms r JOIN properties p ON p.id = r.property_id
+                    """,
+                    (RowCallbackHandler) rs -> rooms.put(
+                            ImportContext.roomKey(rs.getString("code"), rs.getString("room_number")),
+                            new ImportContext.RoomRef(rs.getLong("id"), rs.getLong("property_id"),
+                                    rs.getBigDecimal("price_per_night"))));
+        }
+        return new ImportContext(defaultPropertyCode, propertyIds, rooms);
+    }
+
+    private record Chunk<T>(List<T> rows, List<String> errors) {
+    }
+
+    private record PropertyRecord(String code, String name, String city, boolean active) {
+
+        static PropertyRecord from(Map<String, String> fields, ImportContext context) {
+            String active = ImportFields.optional(fields, "active");
+            return new PropertyRecord(
+                    ImportFields.required(fields, "code").toUpperCase(),
+                    ImportFields.optional(fields, "name"),
+                    ImportFields.optional(fields, "city"),
+                    active == null || Boolean.parseBoolean(active));
+        }
+    }
+}
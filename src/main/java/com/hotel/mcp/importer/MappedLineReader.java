@@ -0,0 +1,84 @@
+package com.hotel.mcp.importer;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads a UTF-8 text file line by line through memory-mapped windows.
+ *
+ * Only one window (64 MB) is mapped at a time and lines are decoded from a
+ * reused byte buffer, so memory use does not depend on the file size.
+ * Both LF and CRLF line endings are accepted; a leading BOM is skipped.
+ */
+final class MappedLineReader implements AutoCloseable {
+
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private long windowStart;
+    private MappedByteBuffer window;
+    private byte[] line = new byte[512];
+
+    MappedLineReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        map(0);
+        skipByteOrderMark();
+    }
+
+    /**
+     * The next line without its terminator, or null at the end of the file.
+     */
+    String readLine() throws IOException {
+        if (windowStart + window.position() >= size) {
+            return null;
+        }
+
+        int length = 0;
+        while (true) {
+            if (!window.hasRemaining()) {
+                long next = windowStart + window.limit();
+                if (next >= size) {
+                    break;
+                }
+                map(next);
+            }
+            byte b = window.get();
+            if (b == '\n') {
+                break;
+            }
+            if (length == line.length) {
+                line = Arrays.copyOf(line, length * 2);
+            }
+            line[length++] = b;
+        }
+
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void map(long position) throws IOException {
+        windowStart = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_SIZE, size - position));
+    }
+
+    private void skipByteOrderMark() {
+        if (window.remaining() >= 3
+                && window.get(0) == (byte) 0xEF && window.get(1) == (byte) 0xBB && window.get(2) == (byte) 0xBF) {
+            window.position(3);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.hotel.mcp.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Supported import file formats. Both turn one line into a map of
+ * snake_case field names to raw string values.
+ *
+ * CSV files start with a header row and follow RFC 4180 quoting, except
+ * that quoted fields may not span lines. JSONL files hold one flat JSON
+ * object per line; camelCase keys are accepted as well.
+ */
+enum RecordFormat {
+    CSV,
+    JSONL;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static RecordFormat of(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return JSONL;
+        }
+        throw new IllegalArgumentException("Unsupported import file (expected .csv or .jsonl): " + file);
+    }
+
+    /**
+     * Whether the first line of the file is a header rather than a record.
+     */
+    boolean hasHeader() {
+        return this == CSV;
+    }
+
+    /**
+     * A thread-safe parser for the records of a file.
+     *
+     * @param header the header line for CSV files, ignored for JSONL
+     */
+    Function<String, Map<String, String>> parser(String header) {
+        if (this == JSONL) {
+            return RecordFormat::parseJson;
+        }
+
+        List<String> columns = splitCsv(header).stream().map(RecordFormat::fieldName).toList();
+        return line -> {
+            List<String> values = splitCsv(line);
+            if (values.size() != columns.size()) {
+                throw new IllegalArgumentException("expected " + columns.size() + " columns, found " + values.size());
+            }
+            Map<String, String> fields = new HashMap<>(columns.size() * 2);
+            for (int i = 0; i < columns.size(); i++) {
+                fields.put(columns.get(i), values.get(i));
+            }
+            return fields;
+        };
+    }
+
+    private static Map<String, String> parseJson(String line) {
+        JsonNode node;
+        try {
+            node = MAPPER.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("malformed JSON: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("expected a JSON object");
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        node.fields().forEachRemaining(field -> {
+            JsonNode value = field.getValue();
+            fields.put(fieldName(field.getKey()), value.isNull() ? null : value.asText());
+        });
+        return fields;
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Normalize a column or key name: pricePerNight, Price Per Night and
+     * price-per-night all become price_per_night.
+     */
+    private static String fieldName(String name) {
+        StringBuilder normalized = new StringBuilder(name.length() + 4);
+        String trimmed = name.trim();
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && Character.isLowerCase(trimmed.charAt(i - 1))) {
+                normalized.append('_');
+            }
+            normalized.append(c == '-' || c == ' ' ? '_' : Character.toLowerCase(c));
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,43 @@
+package com.hotel.mcp.importer;
+
+import com.hotel.mcp.entity.RoomType;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * A validated room row from an inventory file.
+ *
+ * Columns: property_code (optional, defaults to the default property),
+ * room_number, type, price_per_night, description, amenities,
+ * max_occupancy, available (optional, defaults to true).
+ */
+record RoomRecord(
+        long propertyId,
+        String roomNumber,
+        RoomType type,
+        BigDecimal pricePerNight,
+        String description,
+        String amenities,
+        int maxOccupancy,
+        boolean available) {
+
+    static RoomRecord from(Map<String, String> fields, ImportContext context) {
+        long propertyId = context.propertyId(ImportFields.optional(fields, "property_code"));
+        String roomNumber = ImportFields.required(fields, "room_number");
+        RoomType type = ImportFields.enumValue(fields, "type", RoomType.class);
+        BigDecimal price = ImportFields.positiveDecimal(fields, "price_per_night");
+        int maxOccupancy = ImportFields.positiveInt(fields, "max_occupancy");
+        String available = ImportFields.optional(fields, "available");
+
+        return new RoomRecord(
+                propertyId,
+                roomNumber,
+                type,
+                price,
+                ImportFields.optional(fields, "description"),
+                ImportFields.optional(fields, "amenities"),
+                maxOccupancy,
+                available == null || Boolean.parseBoolean(available));
+    }
+}
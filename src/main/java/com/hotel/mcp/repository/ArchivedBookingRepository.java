@@ -0,0 +1,96 @@
+package com.hotel.mcp.repository;
+
+import com.hotel.mcp.dto.BookingDetails;
+import com.hotel.mcp.dto.BookingSummary;
+import com.hotel.mcp.dto.SoldStay;
+import com.hotel.mcp.entity.ArchivedBooking;
+import com.hotel.mcp.entity.BookingStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository for ArchivedBooking entity operations.
+ */
+@Repository
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, Long> {
+
+    /**
+     * Select archived booking details by reference straight into the DTO.
+     */
+    @Query("""
+            SELECT new com.hotel.mcp.dto.BookingDetails(
+                a.bookingReference, a.status, a.guestName, a.guestEmail, a.guestPhone,
+                p.code, r.roomNumber, r.type, a.checkInDate, a.checkOutDate,
+                r.pricePerNight, a.totalPrice, a.createdAt)
+            FROM ArchivedBooking a
+            JOIN Room r ON r.id = a.roomId
+            LEFT JOIN r.property p
+            WHERE a.bookingReference = :bookingReference
+            """)
+    Optional<BookingDetails> findDetailsByBookingReference(@Param("bookingReference") String bookingReference);
+
+    /**
+     * Select details of several archived bookings by reference straight into the DTO.
+     */
+    @Query("""
+            SELECT new com.hotel.mcp.dto.BookingDetails(
+                a.bookingReference, a.status, a.guestName, a.guestEmail, a.guestPhone,
+                p.code, r.roomNumber, r.type, a.checkInDate, a.checkOutDate,
+                r.pricePerNight, a.totalPrice, a.createdAt)
+            FROM ArchivedBooking a
+            JOIN Room r ON r.id = a.roomId
+            LEFT JOIN r.property p
+            WHERE a.bookingReference IN :bookingReferences
+            """)
+    List<BookingDetails> findDetailsByBookingReferenceIn(
+            @Param("bookingReferences") Collection<String> bookingReferences);
+
+    /**
+     * One page of a guest's archived bookings, newest check-in first,
+     * starting after the given keyset cursor.
+     */
+    @Query("""
+            SELECT new com.hotel.mcp.dto.BookingSummary(
+                a.id, a.bookingReference, p.code, a.status, a.guestName, r.roomNumber, r.type,
+                a.checkInDate, a.checkOutDate, a.totalPrice)
+            FROM ArchivedBooking a
+            JOIN Room r ON r.id = a.roomId
+            LEFT JOIN r.property p
+            WHERE a.guestEmail = :guestEmail
+            AND a.status IN :statuses
+            AND (a.checkInDate < :beforeDate OR (a.checkInDate = :beforeDate AND a.id < :beforeId))
+            ORDER BY a.checkInDate DESC, a.id DESC
+            """)
+    List<BookingSummary> findGuestSummariesBefore(
+            @Param("guestEmail") String guestEmail,
+            @Param("statuses") Collection<BookingStatus> statuses,
+            @Param("beforeDate") LocalDate beforeDate,
+            @Param("beforeId") Long beforeId,
+            Limit limit);
+
+    /**
+     * Stream every archived completed booking with its property and room
+     * type, to rebuild the daily occupancy aggregates. Must be consumed inside
+     * a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = BookingRepository.STREAM_FETCH_SIZE))
+    @Query("""
+            SELECT new com.hotel.mcp.dto.SoldStay(r.property.id, r.type, a.checkInDate, a.checkOutDate, a.totalPrice)
+            FROM ArchivedBooking a
+            JOIN Room r ON r.id = a.roomId
+            WHERE a.status IN ('CONFIRMED', 'COMPLETED')
+            """)
+    Stream<SoldStay> streamSoldStays();
+}
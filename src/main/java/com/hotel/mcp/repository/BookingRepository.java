@@ -1,15 +1,31 @@
 package com.hotel.mcp.repository;
 
+import com.hotel.mcp.dto.BookingDetails;
+import com.hotel.mcp.dto.BookingStay;
+import com.hotel.mcp.dto.BookingSummary;
+import com.hotel.mcp.dto.SoldStay;
 import com.hotel.mcp.entity.Booking;
 import com.hotel.mcp.entity.BookingStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Booking entity operations.
@@ -17,11 +33,63 @@ import java.util.Optional;
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    /**
+     * Rows fetched per round trip by the streaming queries. PostgreSQL only
+     * honours it inside a transaction, which streams require anyway.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Lock timeout hint; Hibernate renders the value -2 as SKIP LOCKED.
+     */
+    String SKIP_LOCKED_HINT = "jakarta.persistence.lock.timeout";
+    String SKIP_LOCKED = "-2";
+
     /**
      * Find a booking by its reference code.
      */
     Optional<Booking> findByBookingReference(String bookingReference);
 
+    /**
+     * Find a booking by its reference code and lock its row, so a status
+     * change cannot interleave with the hold sweeper or another confirm or
+     * cancel of the same booking.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.bookingReference = :bookingReference")
+    Optional<Booking> lockByBookingReference(@Param("bookingReference") String bookingReference);
+
+    /**
+     * Select booking details by reference straight into the DTO.
+     */
+    @Query("""
+            SELECT new com.hotel.mcp.dto.BookingDetails(
+                b.bookingReference, b.status, b.guestName, b.guestEmail, b.guestPhone,
+                p.code, r.roomNumber, r.type, b.checkInDate, b.checkOutDate,
+                r.pricePerNight, b.totalPrice, b.createdAt)
+            FROM Booking b
+            JOIN b.room r
+            LEFT JOIN r.property p
+            WHERE b.bookingReference = :bookingReference
+            """)
+    Optional<BookingDetails> findDetailsByBookingReference(@Param("bookingReference") String bookingReference);
+
+    /**
+     * Select details of several bookings by reference straight into the DTO.
+     */
+    @Query("""
+            SELECT new com.hotel.mcp.dto.BookingDetails(
+                b.bookingReference, b.status, b.guestName, b.guestEmail, b.guestPhone,
+                p.code, r.roomNumber, r.type, b.checkInDate, b.checkOutDate,
+                r.pricePerNight, b.totalPrice, b.createdAt)
+            FROM Booking b
+            JOIN b.room r
+            LEFT JOIN r.property p
+            WHERE b.bookingReference IN :bookingReferences
+            """)
+    List<BookingDetails> findDetailsByBookingReferenceIn(
+            @Param("bookingReferences") Collection<String> bookingReferences);
+
     /**
      * Find all bookings for a guest by email.
      */
@@ -32,6 +100,26 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      */
     List<Booking> findByStatus(BookingStatus status);
 
+    /**
+     * One slice of the bookings with a specific status.
+     */
+    Slice<Booking> findByStatus(BookingStatus status, Pageable pageable);
+
+    /**
+     * Stream all bookings with a specific status. Must be consumed inside a
+     * transaction and closed; entities are loaded read-only.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Booking> streamByStatus(BookingStatus status);
+
+    /**
+     * Find all bookings in a property with a specific status.
+     */
+    List<Booking> findByPropertyIdAndStatus(Long propertyId, BookingStatus status);
+
     /**
      * Find all bookings for a room.
      */
@@ -44,6 +132,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             SELECT b FROM Booking b
             WHERE b.room.id = :roomId
             AND b.status IN ('PENDING', 'CONFIRMED')
+            AND (b.holdExpiresAt IS NULL OR b.holdExpiresAt > LOCAL DATETIME)
             AND (b.checkInDate <= :checkOut AND b.checkOutDate >= :checkIn)
             """)
     List<Booking> findOverlappingBookings(
@@ -64,12 +153,255 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    /**
+     * One slice of the bookings for a specific date range. Ordered by
+     * check-in date and id so consecutive slices neither skip nor repeat
+     * bookings that share a check-in date.
+     */
+    @Query("""
+            SELECT b FROM Booking b
+            WHERE b.checkInDate >= :startDate
+            AND b.checkOutDate <= :endDate
+            ORDER BY b.checkInDate, b.id
+            """)
+    Slice<Booking> findBookingsInDateRange(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable);
+
+    /**
+     * Stream all bookings for a specific date range. Must be consumed inside
+     * a transaction and closed; entities are loaded read-only.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT b FROM Booking b
+            WHERE b.checkInDate >= :startDate
+            AND b.checkOutDate <= :endDate
+            ORDER BY b.checkInDate, b.id
+            """)
+    Stream<Booking> streamBookingsInDateRange(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
     /**
      * Find active bookings (pending or confirmed).
      */
     @Query("SELECT b FROM Booking b WHERE b.status IN ('PENDING', 'CONFIRMED') ORDER BY b.checkInDate")
     List<Booking> findActiveBookings();
 
+    /**
+     * Stream active bookings (pending or confirmed). Must be consumed inside
+     * a transaction and closed; entities are loaded read-only.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Booking b WHERE b.status IN ('PENDING', 'CONFIRMED') ORDER BY b.checkInDate")
+    Stream<Booking> streamActiveBookings();
+
+    /**
+     * Stream the room and dates of every active booking, without loading
+     * entities. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("""
+            SELECT new com.hotel.mcp.dto.BookingStay(b.room.id, b.checkInDate, b.checkOutDate, b.holdExpiresAt)
+            FROM Booking b
+            WHERE b.status IN ('PENDING', 'CONFIRMED')
+            AND (b.holdExpiresAt IS NULL OR b.holdExpiresAt > LOCAL DATETIME)
+            """)
+    Stream<BookingStay> streamActiveStays();
+
+    /**
+     * Stream every confirmed or completed booking with its property and room
+     * type, to rebuild the daily occupancy aggregates. Must be consumed inside
+     * a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("""
+            SELECT new com.hotel.mcp.dto.SoldStay(r.property.id, r.type, b.checkInDate, b.checkOutDate, b.totalPrice)
+            FROM Booking b
+            JOIN b.room r
+            WHERE b.status IN ('CONFIRMED', 'COMPLETED')
+            """)
+    Stream<SoldStay> streamSoldStays();
+
+    /**
+     * Select the room and dates of every active booking in a property that
+     * overlaps the date range, without loading entities.
+     */
+    @Query("""
+            SELECT new com.hotel.mcp.dto.BookingStay(b.room.id, b.checkInDate, b.checkOutDate, b.holdExpiresAt)
+            FROM Booking b
+            WHERE b.propertyId = :propertyId
+            AND b.status IN ('PENDING', 'CONFIRMED')
+            AND (b.holdExpiresAt IS NULL OR b.holdExpiresAt > LOCAL DATETIME)
+            AND b.checkInDate <= :to
+            AND b.checkOutDate >= :from
+            """)
+    List<BookingStay> findActiveStays(
+            @Param("propertyId") Long propertyId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /**
+     * One page of a property's bookings in (check-in date, id) order,
+     * starting after the given keyset cursor. Pass the start of the date
+     * range and id 0 for the first page.
+     */
+    @Query("""
+            SELECT new com.hotel.mcp.dto.BookingSummary(
+                b.id, b.bookingReference, p.code, b.status, b.guestName, r.roomNumber, r.type,
+                b.checkInDate, b.checkOutDate, b.totalPrice)
+            FROM Booking b
+            JOIN b.room r
+            LEFT JOIN r.property p
+            WHERE b.propertyId = :propertyId
+            AND b.status IN :statuses
+            AND b.checkInDate <= :to
+            AND (b.checkInDate > :afterDate OR (b.checkInDate = :afterDate AND b.id > :afterId))
+            ORDER BY b.checkInDate, b.id
+            """)
+    List<BookingSummary> findSummariesAfter(
+            @Param("propertyId") Long propertyId,
+            @Param("statuses") Collection<BookingStatus> statuses,
+            @Param("to") LocalDate to,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Limit limit);
+
+    /**
+     * One page of a guest's bookings, newest check-in first, starting after
+     * the given keyset cursor. The email must already be lowercased, as
+     * bookings store it; idx_bookings_guest_email_check_in serves the scan.
+     * Pass the maximum date and id for the first page.
+     */
+    @Query("""
+            SELECT new com.hotel.mcp.dto.BookingSummary(
+                b.id, b.bookingReference, p.code, b.status, b.guestName, r.roomNumber, r.type,
+                b.checkInDate, b.checkOutDate, b.totalPrice)
+            FROM Booking b
+            JOIN b.room r
+            LEFT JOIN r.property p
+            WHERE b.guestEmail = :guestEmail
+            AND b.status IN :statuses
+            AND (b.checkInDate < :beforeDate OR (b.checkInDate = :beforeDate AND b.id < :beforeId))
+            ORDER BY b.checkInDate DESC, b.id DESC
+            """)
+    List<BookingSummary> findGuestSummariesBefore(
+            @Param("guestEmail") String guestEmail,
+            @Param("statuses") Collection<BookingStatus> statuses,
+            @Param("beforeDate") LocalDate beforeDate,
+            @Param("beforeId") Long beforeId,
+            Limit limit);
+
+    /**
+     * Find active bookings (pending or confirmed) in a property.
+     */
+    @Query("""
+            SELECT b FROM Booking b
+            WHERE b.propertyId = :propertyId
+            AND b.status IN ('PENDING', 'CONFIRMED')
+            AND (b.holdExpiresAt IS NULL OR b.holdExpiresAt > LOCAL DATETIME)
+            ORDER BY b.checkInDate
+            """)
+    List<Booking> findActiveBookingsByProperty(@Param("propertyId") Long propertyId);
+
+    /**
+     * Lock one batch of pending holds that expired before {@code now},
+     * oldest first. Rows locked by another sweeper are skipped rather than
+     * waited for, so sweepers on several nodes work through disjoint batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SKIP_LOCKED_HINT, value = SKIP_LOCKED))
+    @Query("""
+            SELECT b FROM Booking b
+            WHERE b.status = 'PENDING'
+            AND b.holdExpiresAt <= :now
+            ORDER BY b.holdExpiresAt
+            """)
+    List<Booking> lockExpiredHolds(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Lock the expired pending holds on the given rooms that overlap the dates.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT b FROM Booking b
+            WHERE b.room.id IN :roomIds
+            AND b.status = 'PENDING'
+            AND b.holdExpiresAt <= LOCAL DATETIME
+            AND b.checkInDate <= :checkOut
+            AND b.checkOutDate >= :checkIn
+            """)
+    List<Booking> lockExpiredHoldsForRooms(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("checkIn") LocalDate checkIn,
+            @Param("checkOut") LocalDate checkOut);
+
+    /**
+     * Ids of one batch of bookings with the given status whose stay ended
+     * before the given date.
+     */
+    @Query("""
+            SELECT b.id FROM Booking b
+            WHERE b.status = :status
+            AND b.checkOutDate < :before
+            ORDER BY b.id
+            """)
+    List<Long> findIdsByStatusAndCheckOutBefore(
+            @Param("status") BookingStatus status,
+            @Param("before") LocalDate before,
+            Limit limit);
+
+    /**
+     * Move the given bookings from one status to another, skipping any that
+     * have changed status in the meantime.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Booking b SET b.status = :to, b.updatedAt = LOCAL DATETIME
+            WHERE b.id IN :ids
+            AND b.status = :from
+            """)
+    int updateStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("from") BookingStatus from,
+            @Param("to") BookingStatus to);
+
+    /**
+     * Lock one batch of completed or cancelled bookings whose stay ended
+     * before the given date, skipping rows another archiver has locked.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SKIP_LOCKED_HINT, value = SKIP_LOCKED))
+    @Query("""
+            SELECT b FROM Booking b
+            WHERE b.status IN ('COMPLETED', 'CANCELLED')
+            AND b.checkOutDate < :before
+            ORDER BY b.id
+            """)
+    List<Booking> lockArchivable(@Param("before") LocalDate before, Limit limit);
+
+    /**
+     * Delete the given bookings.
+     */
+    @Modifying
+    @Query("DELETE FROM Booking b WHERE b.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Assign bookings created before properties existed to a property.
+     */
+    @Modifying
+    @Query("UPDATE Booking b SET b.propertyId = :propertyId WHERE b.propertyId IS NULL")
+    int assignPropertyWhereMissing(@Param("propertyId") Long propertyId);
+
     /**
      * Count bookings by status.
      */
@@ -0,0 +1,31 @@
+package com.hotel.mcp.repository;
+
+import com.hotel.mcp.entity.BookingSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Repository for BookingSlot entity operations.
+ */
+@Repository
+public interface BookingSlotRepository extends JpaRepository<BookingSlot, BookingSlot.SlotId> {
+
+    /**
+     * Release all slots held by a booking.
+     */
+    @Modifying
+    @Query("DELETE FROM BookingSlot s WHERE s.bookingId = :bookingId")
+    int deleteByBookingId(@Param("bookingId") Long bookingId);
+
+    /**
+     * Release all slots held by several bookings.
+     */
+    @Modifying
+    @Query("DELETE FROM BookingSlot s WHERE s.bookingId IN :bookingIds")
+    int deleteByBookingIdIn(@Param("bookingIds") Collection<Long> bookingIds);
+}
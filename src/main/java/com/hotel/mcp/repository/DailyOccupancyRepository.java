@@ -0,0 +1,51 @@
+package com.hotel.mcp.repository;
+
+import com.hotel.mcp.entity.DailyOccupancy;
+import com.hotel.mcp.entity.DailyOccupancyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for DailyOccupancy aggregates. Rows are written by
+ * OccupancyService; these queries only read them.
+ */
+@Repository
+public interface DailyOccupancyRepository extends JpaRepository<DailyOccupancy, DailyOccupancyId> {
+
+    /**
+     * Sum room nights sold and revenue per room type over a date range, in
+     * one property or in all properties if {@code propertyId} is null.
+     */
+    @Query("""
+            SELECT d.roomType, SUM(d.roomsSold), SUM(d.roomRevenue)
+            FROM DailyOccupancy d
+            WHERE d.stayDate BETWEEN :fromDate AND :toDate
+            AND (:propertyId IS NULL OR d.propertyId = :propertyId)
+            GROUP BY d.roomType
+            """)
+    List<Object[]> summarizeByRoomType(
+            @Param("propertyId") Long propertyId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    /**
+     * Sum room nights sold and revenue per calendar month over a date range,
+     * in one property or in all properties if {@code propertyId} is null.
+     */
+    @Query("""
+            SELECT YEAR(d.stayDate), MONTH(d.stayDate), SUM(d.roomsSold), SUM(d.roomRevenue)
+            FROM DailyOccupancy d
+            WHERE d.stayDate BETWEEN :fromDate AND :toDate
+            AND (:propertyId IS NULL OR d.propertyId = :propertyId)
+            GROUP BY YEAR(d.stayDate), MONTH(d.stayDate)
+            """)
+    List<Object[]> summarizeByMonth(
+            @Param("propertyId") Long propertyId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+}
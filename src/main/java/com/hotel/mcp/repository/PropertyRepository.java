@@ -0,0 +1,25 @@
+package com.hotel.mcp.repository;
+
+import com.hotel.mcp.entity.Property;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for Property entity operations.
+ */
+@Repository
+public interface PropertyRepository extends JpaRepository<Property, Long> {
+
+    /**
+     * Find a property by its code.
+     */
+    Optional<Property> findByCode(String code);
+
+    /**
+     * Find all active properties.
+     */
+    List<Property> findByActiveTrue();
+}
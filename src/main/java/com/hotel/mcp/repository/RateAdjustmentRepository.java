@@ -0,0 +1,13 @@
+package com.hotel.mcp.repository;
+
+import com.hotel.mcp.entity.RateAdjustment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for RateAdjustment rules. The table is small and loaded whole
+ * into the in-memory rate calendar.
+ */
+@Repository
+public interface RateAdjustmentRepository extends JpaRepository<RateAdjustment, Long> {
+}
@@ -1,13 +1,17 @@
 package com.hotel.mcp.repository;
 
+import com.hotel.mcp.dto.RoomView;
+import com.hotel.mcp.entity.Property;
 import com.hotel.mcp.entity.Room;
 import com.hotel.mcp.entity.RoomType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,9 +22,14 @@ import java.util.Optional;
 public interface RoomRepository extends JpaRepository<Room, Long> {
 
     /**
-     * Find a room by its room number.
+     * Find a room by its room number within a property.
      */
-    Optional<Room> findByRoomNumber(String roomNumber);
+    Optional<Room> findByPropertyIdAndRoomNumber(Long propertyId, String roomNumber);
+
+    /**
+     * Find several rooms by room number within a property.
+     */
+    List<Room> findByPropertyIdAndRoomNumberIn(Long propertyId, Collection<String> roomNumbers);
 
     /**
      * Find all rooms of a specific type.
@@ -32,61 +41,156 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      */
     List<Room> findByTypeAndAvailableTrue(RoomType type);
 
+    /**
+     * Select all available rooms of a specific type within a property as views.
+     */
+    @Query("""
+            SELECT new com.hotel.mcp.dto.RoomView(
+                r.id, p.code, r.roomNumber, r.type, r.description, r.amenities, r.pricePerNight, r.maxOccupancy)
+            FROM Room r
+            JOIN r.property p
+            WHERE p.id = :propertyId
+            AND r.type = :roomType
+            AND r.available = true
+            """)
+    List<RoomView> findRoomViewsByType(
+            @Param("propertyId") Long propertyId,
+            @Param("roomType") RoomType roomType);
+
+    /**
+     * Select all available rooms within a property as views.
+     */
+    @Query("""
+            SELECT new com.hotel.mcp.dto.RoomView(
+                r.id, p.code, r.roomNumber, r.type, r.description, r.amenities, r.pricePerNight, r.maxOccupancy)
+            FROM Room r
+            JOIN r.property p
+            WHERE p.id = :propertyId
+            AND r.available = true
+            """)
+    List<RoomView> findRoomViews(@Param("propertyId") Long propertyId);
+
     /**
      * Find all available rooms.
      */
     List<Room> findByAvailableTrue();
 
+    /**
+     * Aggregate available rooms per type: minimum price, maximum occupancy and count.
+     */
+    @Query("""
+            SELECT r.type, MIN(r.pricePerNight), MAX(r.maxOccupancy), COUNT(r)
+            FROM Room r
+            WHERE r.available = true
+            GROUP BY r.type
+            """)
+    List<Object[]> summarizeAvailableRoomsByType();
+
+    /**
+     * Count available rooms per type, in one property or in all properties
+     * if {@code propertyId} is null.
+     */
+    @Query("""
+            SELECT r.type, COUNT(r)
+            FROM Room r
+            WHERE r.available = true
+            AND (:propertyId IS NULL OR r.property.id = :propertyId)
+            GROUP BY r.type
+            """)
+    List<Object[]> countAvailableRoomsByType(@Param("propertyId") Long propertyId);
+
+    /**
+     * Assign rooms created before properties existed to a property.
+     */
+    @Modifying
+    @Query("UPDATE Room r SET r.property = :property WHERE r.property IS NULL")
+    int assignPropertyWhereMissing(@Param("property") Property property);
+
     /**
      * Find rooms that are available for the given date range.
-     * A room is available if there are no confirmed or pending bookings
-     * that overlap with the requested dates.
+     * A room is available if there are no confirmed bookings or unexpired
+     * pending holds that overlap with the requested dates. The correlated
+     * NOT EXISTS lets PostgreSQL probe idx_bookings_active_room_dates per room.
      */
     @Query("""
-            SELECT r FROM Room r
-            WHERE r.type = :roomType
+            SELECT new com.hotel.mcp.dto.RoomView(
+                r.id, p.code, r.roomNumber, r.type, r.description, r.amenities, r.pricePerNight, r.maxOccupancy)
+            FROM Room r
+            JOIN r.property p
+            WHERE p.id = :propertyId
+            AND r.type = :roomType
             AND r.available = true
-            AND r.id NOT IN (
-                SELECT b.room.id FROM Booking b
-                WHERE b.status IN ('PENDING', 'CONFIRMED')
-                AND (
-                    (b.checkInDate <= :checkOut AND b.checkOutDate >= :checkIn)
-                )
+            AND NOT EXISTS (
+                SELECT 1 FROM Booking b
+                WHERE b.room.id = r.id
+                AND b.propertyId = :propertyId
+                AND b.status IN ('PENDING', 'CONFIRMED')
+                AND (b.holdExpiresAt IS NULL OR b.holdExpiresAt > LOCAL DATETIME)
+                AND b.checkInDate <= :checkOut
+                AND b.checkOutDate >= :checkIn
             )
             """)
-    List<Room> findAvailableRoomsByTypeAndDateRange(
+    List<RoomView> findAvailableRoomsByTypeAndDateRange(
+            @Param("propertyId") Long propertyId,
             @Param("roomType") RoomType roomType,
             @Param("checkIn") LocalDate checkIn,
             @Param("checkOut") LocalDate checkOut);
 
     /**
-     * Find all available rooms for a date range (any type).
+     * Find all available rooms in a property for a date range (any type).
      */
     @Query("""
-            SELECT r FROM Room r
-            WHERE r.available = true
-            AND r.id NOT IN (
-                SELECT b.room.id FROM Booking b
-                WHERE b.status IN ('PENDING', 'CONFIRMED')
-                AND (
-                    (b.checkInDate <= :checkOut AND b.checkOutDate >= :checkIn)
-                )
+            SELECT new com.hotel.mcp.dto.RoomView(
+                r.id, p.code, r.roomNumber, r.type, r.description, r.amenities, r.pricePerNight, r.maxOccupancy)
+            FROM Room r
+            JOIN r.property p
+            WHERE p.id = :propertyId
+            AND r.available = true
+            AND NOT EXISTS (
+                SELECT 1 FROM Booking b
+                WHERE b.room.id = r.id
+                AND b.propertyId = :propertyId
+                AND b.status IN ('PENDING', 'CONFIRMED')
+                AND (b.holdExpiresAt IS NULL OR b.holdExpiresAt > LOCAL DATETIME)
+                AND b.checkInDate <= :checkOut
+                AND b.checkOutDate >= :checkIn
             )
             """)
-    List<Room> findAvailableRoomsForDateRange(
+    List<RoomView> findAvailableRoomsForDateRange(
+            @Param("propertyId") Long propertyId,
             @Param("checkIn") LocalDate checkIn,
             @Param("checkOut") LocalDate checkOut);
 
     /**
-     * Check if a specific room is available for the given dates.
+     * Find which of the given rooms have an active booking overlapping the dates.
      */
     @Query("""
-            SELECT CASE WHEN COUNT(b) = 0 THEN true ELSE false END
-            FROM Booking b
-            WHERE b.room.id = :roomId
+            SELECT DISTINCT b.room.id FROM Booking b
+            WHERE b.room.id IN :roomIds
             AND b.status IN ('PENDING', 'CONFIRMED')
+            AND (b.holdExpiresAt IS NULL OR b.holdExpiresAt > LOCAL DATETIME)
             AND (b.checkInDate <= :checkOut AND b.checkOutDate >= :checkIn)
             """)
+    List<Long> findBookedRoomIds(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("checkIn") LocalDate checkIn,
+            @Param("checkOut") LocalDate checkOut);
+
+    /**
+     * Check if a specific room is available for the given dates.
+     */
+    @Query("""
+            SELECT CASE WHEN EXISTS (
+                SELECT 1 FROM Booking b
+                WHERE b.room.id = r.id
+                AND b.status IN ('PENDING', 'CONFIRMED')
+                AND (b.holdExpiresAt IS NULL OR b.holdExpiresAt > LOCAL DATETIME)
+                AND b.checkInDate <= :checkOut
+                AND b.checkOutDate >= :checkIn
+            ) THEN false ELSE true END
+            FROM Room r
+            WHERE r.id = :roomId
+            """)
     boolean isRoomAvailableForDates(
             @Param("roomId") Long roomId,
             @Param("checkIn") LocalDate checkIn,
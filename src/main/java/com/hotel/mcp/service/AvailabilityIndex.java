@@ -0,0 +1,369 @@
+package com.hotel.mcp.service;
+
+import com.hotel.mcp.dto.BookingStay;
+import com.hotel.mcp.repository.BookingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-memory occupancy index used to answer availability checks without
+ * scanning the bookings table.
+ *
+ * Every room with active bookings gets a bitset over a rolling horizon of
+ * days starting at the index base date; a set bit means the day is held by
+ * a pending or confirmed booking. Like the repository queries, the check-out
+ * day counts as occupied. Rooms with an uncommitted booking change are
+ * reported as {@link Lookup#UNKNOWN} so callers fall back to the database,
+ * as are occupied rooms with a pending hold that has expired but not yet
+ * been swept, and rooms whose bookings kept changing while the index was
+ * last rebuilt.
+ */
+@Component
+public class AvailabilityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AvailabilityIndex.class);
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    /**
+     * Result of an index lookup for a single room.
+     */
+    public enum Lookup {
+        FREE, OCCUPIED, UNKNOWN
+    }
+
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int horizonDays;
+
+    private final Map<Long, Integer> dirtyRooms = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile Snapshot snapshot;
+    private volatile Set<Long> changedDuringRebuild;
+
+    public AvailabilityIndex(BookingRepository bookingRepository, PlatformTransactionManager transactionManager,
+            @Value("${hotel.availability-index.enabled:true}") boolean enabled,
+            @Value("${hotel.availability-index.horizon-days:400}") int horizonDays) {
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.horizonDays = horizonDays;
+    }
+
+    /**
+     * Build the index once the application (and its data) is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Roll the horizon forward once a day.
+     */
+    @Scheduled(cron = "${hotel.availability-index.rebuild-cron:0 5 0 * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild the index from the active bookings in the database.
+     * Only room ids and dates are streamed; no booking entities are loaded.
+     * Rooms whose bookings change while a snapshot loads are stale in it from
+     * the moment they change, so publishing it never exposes a missed change;
+     * their lookups fall back to the database until the next rebuild.
+     * Retries if any room went stale, keeping the last attempt regardless.
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            for (int attempt = 1; attempt <= MAX_REBUILD_ATTEMPTS; attempt++) {
+                Set<Long> changed = ConcurrentHashMap.newKeySet();
+                changedDuringRebuild = changed;
+                // The snapshot shares the live set, so apply() marks a room stale before touching the old one
+                Snapshot fresh = new Snapshot(LocalDate.now(), horizonDays, changed);
+                // Always rebuild from the primary; a lagging replica would miss committed bookings
+                ReadYourWrites.onPrimary(() -> transactionTemplate.execute(status -> {
+                    try (Stream<BookingStay> stays = bookingRepository.streamActiveStays()) {
+                        stays.forEach(stay -> fresh.occupy(stay.roomId(), stay.checkInDate(), stay.checkOutDate(),
+                                stay.holdExpiresAt()));
+                    }
+                    return null;
+                }));
+
+                snapshot = fresh;
+                if (changed.isEmpty()) {
+                    log.info("Availability index rebuilt: base={}, horizonDays={}, rooms={}, hitRate={}%",
+                            fresh.baseDate, horizonDays, fresh.rooms.size(),
+                            String.format("%.1f", getHitRate() * 100));
+                    return;
+                }
+                if (attempt == MAX_REBUILD_ATTEMPTS) {
+                    log.warn("Bookings kept changing during availability index rebuild; "
+                            + "{} rooms will use the database until the next rebuild", changed.size());
+                    return;
+                }
+                log.info("Bookings changed during availability index rebuild, retrying (attempt {})", attempt);
+            }
+        } finally {
+            changedDuringRebuild = null;
+        }
+    }
+
+    /**
+     * Whether the index can answer lookups for the given date range.
+     */
+    public boolean covers(LocalDate checkIn, LocalDate checkOut) {
+        Snapshot current = snapshot;
+        return current != null && current.covers(checkIn, checkOut);
+    }
+
+    /**
+     * Look up whether a room is free for the given dates.
+     */
+    public Lookup lookup(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        Snapshot current = snapshot;
+        if (current == null || !current.covers(checkIn, checkOut) || isDirty(roomId)
+                || current.isStale(roomId)) {
+            misses.increment();
+            return Lookup.UNKNOWN;
+        }
+        if (current.isFree(roomId, checkIn, checkOut)) {
+            hits.increment();
+            return Lookup.FREE;
+        }
+        // The occupying booking may be a hold that has run out; let the database decide
+        if (current.hasExpiredHold(roomId, LocalDateTime.now())) {
+            misses.increment();
+            return Lookup.UNKNOWN;
+        }
+        hits.increment();
+        return Lookup.OCCUPIED;
+    }
+
+    /**
+     * Record that a booking now holds the room for the given dates.
+     * Applied once the surrounding transaction commits.
+     */
+    public void occupy(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        occupy(roomId, checkIn, checkOut, null);
+    }
+
+    /**
+     * Record that a booking now holds the room for the given dates, as a
+     * pending hold until {@code holdExpiresAt} if that is not null.
+     * Applied once the surrounding transaction commits.
+     */
+    public void occupy(Long roomId, LocalDate checkIn, LocalDate checkOut, LocalDateTime holdExpiresAt) {
+        recordChange(roomId, current -> current.occupy(roomId, checkIn, checkOut, holdExpiresAt));
+    }
+
+    /**
+     * Record that a booking no longer holds the room for the given dates.
+     * Applied once the surrounding transaction commits.
+     */
+    public void release(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        release(roomId, checkIn, checkOut, null);
+    }
+
+    /**
+     * Record that a booking, possibly a pending hold until
+     * {@code holdExpiresAt}, no longer holds the room for the given dates.
+     * Applied once the surrounding transaction commits.
+     */
+    public void release(Long roomId, LocalDate checkIn, LocalDate checkOut, LocalDateTime holdExpiresAt) {
+        recordChange(roomId, current -> {
+            current.release(roomId, checkIn, checkOut);
+            current.unhold(roomId, holdExpiresAt);
+        });
+    }
+
+    /**
+     * Record that a pending hold was confirmed and no longer expires.
+     * Applied once the surrounding transaction commits.
+     */
+    public void confirm(Long roomId, LocalDateTime holdExpiresAt) {
+        recordChange(roomId, current -> current.unhold(roomId, holdExpiresAt));
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Fraction of room lookups answered from memory.
+     */
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    private void recordChange(Long roomId, Consumer<Snapshot> change) {
+        if (!enabled) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(roomId, change);
+            return;
+        }
+
+        dirtyRooms.merge(roomId, 1, Integer::sum);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    apply(roomId, change);
+                }
+                dirtyRooms.computeIfPresent(roomId, (id, count) -> count <= 1 ? null : count - 1);
+            }
+        });
+    }
+
+    private void apply(Long roomId, Consumer<Snapshot> change) {
+        // Mark the room stale in a loading snapshot before reading the current one, which may be older
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(roomId);
+        }
+        Snapshot current = snapshot;
+        if (current != null) {
+            change.accept(current);
+        }
+    }
+
+    private boolean isDirty(Long roomId) {
+        return dirtyRooms.containsKey(roomId);
+    }
+
+    /**
+     * Per-room occupancy bitsets for one horizon window, plus the expiry
+     * times of the pending holds on each room. Each bitset and expiry map is
+     * guarded by its own monitor so rooms never contend with each other.
+     */
+    private static final class Snapshot {
+
+        private final LocalDate baseDate;
+        private final long baseDay;
+        private final int horizonDays;
+        private final Map<Long, BitSet> rooms = new ConcurrentHashMap<>();
+        private final Map<Long, TreeMap<LocalDateTime, Integer>> holds = new ConcurrentHashMap<>();
+        // Rooms whose bookings changed while this snapshot was loading; their bits may miss that change
+        private final Set<Long> staleRooms;
+
+        Snapshot(LocalDate baseDate, int horizonDays, Set<Long> staleRooms) {
+            this.baseDate = baseDate;
+            this.baseDay = baseDate.toEpochDay();
+            this.horizonDays = horizonDays;
+            this.staleRooms = staleRooms;
+        }
+
+        boolean covers(LocalDate checkIn, LocalDate checkOut) {
+            return checkIn.toEpochDay() >= baseDay && checkOut.toEpochDay() < baseDay + horizonDays;
+        }
+
+        boolean isStale(Long roomId) {
+            return staleRooms.contains(roomId);
+        }
+
+        boolean isFree(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+            BitSet days = rooms.get(roomId);
+            if (days == null) {
+                return true;
+            }
+            int from = (int) (checkIn.toEpochDay() - baseDay);
+            synchronized (days) {
+                int next = days.nextSetBit(from);
+                return next < 0 || next > checkOut.toEpochDay() - baseDay;
+            }
+        }
+
+        boolean hasExpiredHold(Long roomId, LocalDateTime now) {
+            TreeMap<LocalDateTime, Integer> expiries = holds.get(roomId);
+            if (expiries == null) {
+                return false;
+            }
+            synchronized (expiries) {
+                return !expiries.isEmpty() && !expiries.firstKey().isAfter(now);
+            }
+        }
+
+        void occupy(Long roomId, LocalDate checkIn, LocalDate checkOut, LocalDateTime holdExpiresAt) {
+            if (holdExpiresAt != null) {
+                TreeMap<LocalDateTime, Integer> expiries = holds.computeIfAbsent(roomId, id -> new TreeMap<>());
+                synchronized (expiries) {
+                    expiries.merge(holdExpiresAt, 1, Integer::sum);
+                }
+            }
+            int[] range = clip(checkIn, checkOut);
+            if (range == null) {
+                return;
+            }
+            BitSet days = rooms.computeIfAbsent(roomId, id -> new BitSet(horizonDays));
+            synchronized (days) {
+                days.set(range[0], range[1]);
+            }
+        }
+
+        void unhold(Long roomId, LocalDateTime holdExpiresAt) {
+            TreeMap<LocalDateTime, Integer> expiries = holdExpiresAt == null ? null : holds.get(roomId);
+            if (expiries == null) {
+                return;
+            }
+            synchronized (expiries) {
+                expiries.computeIfPresent(holdExpiresAt, (expiry, count) -> count <= 1 ? null : count - 1);
+            }
+        }
+
+        void release(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+            BitSet days = rooms.get(roomId);
+            int[] range = clip(checkIn, checkOut);
+            if (days == null || range == null) {
+                return;
+            }
+            synchronized (days) {
+                days.clear(range[0], range[1]);
+            }
+        }
+
+        /**
+         * Map an inclusive date range onto [from, to) bit offsets within the horizon.
+         */
+        private int[] clip(LocalDate checkIn, LocalDate checkOut) {
+            long from = Math.max(checkIn.toEpochDay() - baseDay, 0);
+            long to = Math.min(checkOut.toEpochDay() - baseDay + 1, horizonDays);
+            return from < to ? new int[] { (int) from, (int) to } : null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.hotel.mcp.service;
+
+import com.hotel.mcp.entity.Booking;
+import com.hotel.mcp.entity.BookingStatus;
+import com.hotel.mcp.repository.BookingRepository;
+import com.hotel.mcp.repository.BookingSlotRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+/**
+ * Nightly housekeeping for the bookings table.
+ *
+ * Confirmed bookings whose check-out date has passed are marked COMPLETED
+ * and their slots released. Completed and cancelled bookings whose stay
+ * ended more than {@code archive-after} ago are moved to bookings_archive,
+ * so the hot table only holds current and recent bookings. Each batch runs
+ * in its own transaction.
+ */
+@Component
+@ConditionalOnProperty(prefix = "hotel.booking.lifecycle", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BookingLifecycleJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingLifecycleJob.class);
+
+    private static final String ARCHIVE_QUERY = """
+            INSERT INTO ArchivedBooking (id, bookingReference, guestName, guestEmail, guestPhone, roomId,
+                propertyId, checkInDate, checkOutDate, totalPrice, status, createdAt, updatedAt,
+                numberOfGuests, specialRequests, archivedAt)
+            SELECT b.id, b.bookingReference, b.guestName, b.guestEmail, b.guestPhone, b.room.id,
+                b.propertyId, b.checkInDate, b.checkOutDate, b.totalPrice, b.status, b.createdAt, b.updatedAt,
+                b.numberOfGuests, b.specialRequests, LOCAL DATETIME
+            FROM Booking b
+            WHERE b.id IN :ids
+            """;
+
+    private final BookingRepository bookingRepository;
+    private final BookingSlotRepository bookingSlotRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Period archiveAfter;
+
+    public BookingLifecycleJob(BookingRepository bookingRepository, BookingSlotRepository bookingSlotRepository,
+            EntityManager entityManager, PlatformTransactionManager transactionManager,
+            @Value("${hotel.booking.lifecycle.batch-size:1000}") int batchSize,
+            @Value("${hotel.booking.lifecycle.archive-after:P180D}") Period archiveAfter) {
+        this.bookingRepository = bookingRepository;
+        this.bookingSlotRepository = bookingSlotRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.archiveAfter = archiveAfter;
+    }
+
+    @Scheduled(cron = "${hotel.booking.lifecycle.cron:0 30 0 * * *}")
+    public void run() {
+        LocalDate today = LocalDate.now();
+        int completed = completeCheckedOut(today);
+        int archived = archive(today.minus(archiveAfter));
+        log.info("Booking lifecycle: {} bookings completed, {} archived", completed, archived);
+    }
+
+    /**
+     * Mark confirmed bookings that checked out before the given date as COMPLETED.
+     */
+    public int completeCheckedOut(LocalDate before) {
+        int total = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                List<Long> ids = bookingRepository.findIdsByStatusAndCheckOutBefore(
+                        BookingStatus.CONFIRMED, before, Limit.of(batchSize));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                bookingSlotRepository.deleteByBookingIdIn(ids);
+                bookingRepository.updateStatus(ids, BookingStatus.CONFIRMED, BookingStatus.COMPLETED);
+                return ids.size();
+            });
+            total += batch;
+        } while (batch == batchSize);
+        return total;
+    }
+
+    /**
+     * Move completed and cancelled bookings that checked out before the
+     * given date into bookings_archive.
+     */
+    public int archive(LocalDate before) {
+        int total = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                List<Long> ids = bookingRepository.lockArchivable(before, Limit.of(batchSize)).stream()
+                        .map(Booking::getId)
+                        .toList();
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                entityManager.createQuery(ARCHIVE_QUERY).setParameter("ids", ids).executeUpdate();
+                bookingRepository.deleteByIdIn(ids);
+                entityManager.clear();
+                return ids.size();
+            });
+            total += batch;
+        } while (batch == batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,15 @@
+package com.hotel.mcp.service;
+
+/**
+ * Strategy for generating booking references.
+ *
+ * Implementations must return references that are unique across all nodes
+ * and keep the {@code HBK-YYYYMMDD-} prefix clients already rely on.
+ */
+public interface BookingReferenceGenerator {
+
+    /**
+     * Generate a new booking reference.
+     */
+    String next();
+}
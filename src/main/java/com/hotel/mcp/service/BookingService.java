@@ -2,23 +2,42 @@ package com.hotel.mcp.service;
 
 import com.hotel.mcp.dto.*;
 import com.hotel.mcp.entity.Booking;
+import com.hotel.mcp.entity.BookingSlot;
 import com.hotel.mcp.entity.BookingStatus;
+import com.hotel.mcp.entity.Property;
 import com.hotel.mcp.entity.Room;
+import com.hotel.mcp.repository.ArchivedBookingRepository;
 import com.hotel.mcp.repository.BookingRepository;
+import com.hotel.mcp.repository.BookingSlotRepository;
 import com.hotel.mcp.repository.RoomRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Service for booking-related operations.
@@ -30,71 +49,112 @@ public class BookingService {
     private static final Logger log = LoggerFactory.getLogger(BookingService.class);
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final LocalDate LIST_MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate LIST_MAX_DATE = LocalDate.of(9999, 12, 31);
+    private static final String GUEST_CURSOR_BOOKINGS = "b";
+    private static final String GUEST_CURSOR_ARCHIVE = "a";
+    private static final String INVALID_CURSOR = "Invalid cursor. Pass the nextCursor value from the previous page.";
 
     private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
     private final RoomRepository roomRepository;
-    private final Random random = new Random();
-
-    public BookingService(BookingRepository bookingRepository, RoomRepository roomRepository) {
+    private final BookingSlotRepository bookingSlotRepository;
+    private final PropertyService propertyService;
+    private final AvailabilityIndex availabilityIndex;
+    private final RoomLocks roomLocks;
+    private final BookingReferenceGenerator referenceGenerator;
+    private final ReadYourWrites readYourWrites;
+    private final HoldSweeper holdSweeper;
+    private final OccupancyService occupancyService;
+    private final RateCalendar rateCalendar;
+    private final int maxBatchSize;
+    private final int maxPageSize;
+    private final Duration holdTtl;
+
+    public BookingService(BookingRepository bookingRepository, ArchivedBookingRepository archivedBookingRepository,
+            RoomRepository roomRepository,
+            BookingSlotRepository bookingSlotRepository, PropertyService propertyService,
+            AvailabilityIndex availabilityIndex, RoomLocks roomLocks,
+            BookingReferenceGenerator referenceGenerator, ReadYourWrites readYourWrites, HoldSweeper holdSweeper,
+            OccupancyService occupancyService, RateCalendar rateCalendar,
+            @Value("${hotel.booking.max-batch-size:50}") int maxBatchSize,
+            @Value("${hotel.booking.max-page-size:200}") int maxPageSize,
+            @Value("${hotel.booking.hold-ttl:PT30M}") Duration holdTtl) {
         this.bookingRepository = bookingRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
         this.roomRepository = roomRepository;
+        this.bookingSlotRepository = bookingSlotRepository;
+        this.propertyService = propertyService;
+        this.availabilityIndex = availabilityIndex;
+        this.roomLocks = roomLocks;
+        this.referenceGenerator = referenceGenerator;
+        this.readYourWrites = readYourWrites;
+        this.holdSweeper = holdSweeper;
+        this.occupancyService = occupancyService;
+        this.rateCalendar = rateCalendar;
+        this.maxBatchSize = maxBatchSize;
+        this.maxPageSize = maxPageSize;
+        this.holdTtl = holdTtl;
     }
 
     /**
-     * Create a new booking.
+     * Create a new booking. A blank property code means the default property.
      */
-    public BookingResult createBooking(String roomNumber, String guestName, String guestEmail,
+    public BookingResult createBooking(String propertyCode, String roomNumber, String guestName, String guestEmail,
             String guestPhone, String checkInStr, String checkOutStr) {
-        log.info("Creating booking for room={}, guest={}", roomNumber, guestName);
+        log.atInfo().setMessage("Creating booking")
+                .addKeyValue("property", propertyCode)
+                .addKeyValue("room", roomNumber)
+                .addKeyValue("guest", guestName)
+                .log();
 
         // Validate inputs
-        if (guestName == null || guestName.trim().isEmpty()) {
-            return BookingResult.failure("Guest name is required.");
-        }
-        if (guestEmail == null || !EMAIL_PATTERN.matcher(guestEmail).matches()) {
-            return BookingResult.failure("Valid email address is required.");
+        String validationError = validateRequest(guestName, guestEmail, checkInStr, checkOutStr);
+        if (validationError != null) {
+            return BookingResult.failure(ToolOutcome.VALIDATION_ERROR, validationError);
         }
+        LocalDate checkIn = LocalDate.parse(checkInStr);
+        LocalDate checkOut = LocalDate.parse(checkOutStr);
 
-        // Parse dates
-        LocalDate checkIn, checkOut;
-        try {
-            checkIn = LocalDate.parse(checkInStr);
-            checkOut = LocalDate.parse(checkOutStr);
-        } catch (DateTimeParseException e) {
-            return BookingResult.failure("Invalid date format. Please use YYYY-MM-DD format.");
-        }
-
-        // Validate dates
-        if (checkIn.isBefore(LocalDate.now())) {
-            return BookingResult.failure("Check-in date cannot be in the past.");
-        }
-        if (checkOut.isBefore(checkIn) || checkOut.equals(checkIn)) {
-            return BookingResult.failure("Check-out date must be after check-in date.");
+        // Find property and room
+        Optional<Property> propertyOpt = propertyService.resolve(propertyCode);
+        if (propertyOpt.isEmpty()) {
+            return BookingResult.failure(ToolOutcome.NOT_FOUND, "Property '" + propertyCode + "' not found.");
         }
 
-        // Find room
-        Optional<Room> roomOpt = roomRepository.findByRoomNumber(roomNumber);
+        Optional<Room> roomOpt = roomRepository.findByPropertyIdAndRoomNumber(propertyOpt.get().getId(), roomNumber);
         if (roomOpt.isEmpty()) {
-            return BookingResult.failure("Room '" + roomNumber + "' not found.");
+            return BookingResult.failure(ToolOutcome.NOT_FOUND, "Room '" + roomNumber + "' not found.");
         }
         Room room = roomOpt.get();
 
         // Check room availability
         if (!room.isAvailable()) {
-            return BookingResult.failure("Room '" + roomNumber + "' is not available for booking.");
+            return BookingResult.failure(ToolOutcome.CONFLICT,
+                    "Room '" + roomNumber + "' is not available for booking.");
+        }
+
+        // Serialize bookings for this room on this node until the transaction ends
+        if (!roomLocks.lockForTransaction(List.of(room.getId()))) {
+            return BookingResult.failure(ToolOutcome.CONFLICT,
+                    "Room '" + roomNumber + "' is being booked by another request. Please try again.");
         }
 
+        // Expired holds would still own their slots
+        holdSweeper.expireHolds(List.of(room.getId()), checkIn, checkOut);
         boolean isAvailable = roomRepository.isRoomAvailableForDates(room.getId(), checkIn, checkOut);
         if (!isAvailable) {
-            return BookingResult.failure("Room '" + roomNumber + "' is already booked for the selected dates.");
+            return BookingResult.failure(ToolOutcome.CONFLICT,
+                    "Room '" + roomNumber + "' is already booked for the selected dates.");
         }
 
         // Calculate pricing
         int numberOfNights = (int) ChronoUnit.DAYS.between(checkIn, checkOut);
-        BigDecimal totalPrice = room.getPricePerNight().multiply(BigDecimal.valueOf(numberOfNights));
+        BigDecimal totalPrice = stayTotal(room, checkIn, checkOut);
 
         // Generate booking reference
-        String bookingReference = generateBookingReference();
+        String bookingReference = referenceGenerator.next();
 
         // Create booking
         Booking booking = new Booking(
@@ -106,9 +166,22 @@ public class BookingService {
                 checkIn,
                 checkOut,
                 totalPrice);
+        LocalDateTime holdExpiresAt = holdExpiry();
+        booking.setHoldExpiresAt(holdExpiresAt);
 
         bookingRepository.save(booking);
-        log.info("Booking created: {}", bookingReference);
+
+        // The slot table rejects overlaps committed by other nodes
+        if (!reserveSlots(List.of(booking))) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return BookingResult.failure(ToolOutcome.CONFLICT,
+                    "Room '" + roomNumber + "' is already booked for the selected dates.");
+        }
+        availabilityIndex.occupy(room.getId(), checkIn, checkOut, holdExpiresAt);
+        readYourWrites.recordBookingWrite(propertyOpt.get().getCode(), List.of(bookingReference));
+        log.atInfo().setMessage("Booking created")
+                .addKeyValue("reference", bookingReference)
+                .log();
 
         return BookingResult.success(
                 bookingReference,
@@ -119,16 +192,137 @@ public class BookingService {
                 checkOutStr,
                 numberOfNights,
                 room.getPricePerNight(),
-                totalPrice);
+                totalPrice,
+                holdExpiresAt);
+    }
+
+    /**
+     * Book several rooms for one guest and stay in a single transaction.
+     * Either every room is booked or none is.
+     */
+    public GroupBookingResult createBookings(String propertyCode, List<String> roomNumbers, String guestName,
+            String guestEmail, String guestPhone, String checkInStr, String checkOutStr) {
+        log.atInfo().setMessage("Creating group booking")
+                .addKeyValue("property", propertyCode)
+                .addKeyValue("rooms", roomNumbers)
+                .addKeyValue("guest", guestName)
+                .log();
+
+        // Validate inputs
+        if (roomNumbers == null || roomNumbers.isEmpty()) {
+            return GroupBookingResult.failure(ToolOutcome.VALIDATION_ERROR, "At least one room number is required.");
+        }
+        List<String> distinctRoomNumbers = roomNumbers.stream().map(String::trim).distinct().toList();
+        if (distinctRoomNumbers.size() > maxBatchSize) {
+            return GroupBookingResult.failure(ToolOutcome.VALIDATION_ERROR,
+                    "At most " + maxBatchSize + " rooms can be booked at once.");
+        }
+        String validationError = validateRequest(guestName, guestEmail, checkInStr, checkOutStr);
+        if (validationError != null) {
+            return GroupBookingResult.failure(ToolOutcome.VALIDATION_ERROR, validationError);
+        }
+        LocalDate checkIn = LocalDate.parse(checkInStr);
+        LocalDate checkOut = LocalDate.parse(checkOutStr);
+
+        // Find property and rooms
+        Optional<Property> propertyOpt = propertyService.resolve(propertyCode);
+        if (propertyOpt.isEmpty()) {
+            return GroupBookingResult.failure(ToolOutcome.NOT_FOUND, "Property '" + propertyCode + "' not found.");
+        }
+        Property property = propertyOpt.get();
+
+        List<Room> rooms = roomRepository.findByPropertyIdAndRoomNumberIn(property.getId(), distinctRoomNumbers);
+        if (rooms.size() != distinctRoomNumbers.size()) {
+            Set<String> found = rooms.stream().map(Room::getRoomNumber).collect(Collectors.toSet());
+            List<String> missing = distinctRoomNumbers.stream().filter(n -> !found.contains(n)).toList();
+            return GroupBookingResult.failure(ToolOutcome.NOT_FOUND,
+                    "Room(s) not found: " + String.join(", ", missing));
+        }
+        List<String> unavailable = rooms.stream().filter(r -> !r.isAvailable()).map(Room::getRoomNumber).toList();
+        if (!unavailable.isEmpty()) {
+            return GroupBookingResult.failure(ToolOutcome.CONFLICT,
+                    "Room(s) not available for booking: " + String.join(", ", unavailable));
+        }
+
+        // Lock every room, then check the whole set with one query
+        List<Long> roomIds = rooms.stream().map(Room::getId).toList();
+        if (!roomLocks.lockForTransaction(roomIds)) {
+            return GroupBookingResult.failure(ToolOutcome.CONFLICT,
+                    "Some of the rooms are being booked by another request. Please try again.");
+        }
+
+        holdSweeper.expireHolds(roomIds, checkIn, checkOut);
+        Set<Long> bookedRoomIds = new HashSet<>(roomRepository.findBookedRoomIds(roomIds, checkIn, checkOut));
+        if (!bookedRoomIds.isEmpty()) {
+            List<String> booked = rooms.stream()
+                    .filter(r -> bookedRoomIds.contains(r.getId()))
+                    .map(Room::getRoomNumber)
+                    .toList();
+            return GroupBookingResult.failure(ToolOutcome.CONFLICT,
+                    "Room(s) already booked for the selected dates: " + String.join(", ", booked));
+        }
+
+        // Create bookings
+        int numberOfNights = (int) ChronoUnit.DAYS.between(checkIn, checkOut);
+        LocalDateTime holdExpiresAt = holdExpiry();
+        List<Booking> bookings = new ArrayList<>(rooms.size());
+        for (Room room : rooms) {
+            Booking booking = new Booking(
+                    referenceGenerator.next(),
+                    guestName.trim(),
+                    guestEmail.trim().toLowerCase(),
+                    guestPhone,
+                    room,
+                    checkIn,
+                    checkOut,
+                    stayTotal(room, checkIn, checkOut));
+            booking.setHoldExpiresAt(holdExpiresAt);
+            bookings.add(booking);
+        }
+        bookingRepository.saveAll(bookings);
+
+        if (!reserveSlots(bookings)) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return GroupBookingResult.failure(ToolOutcome.CONFLICT,
+                    "Some of the rooms were booked for the selected dates by another request.");
+        }
+
+        List<BookingResult> results = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            Room room = booking.getRoom();
+            availabilityIndex.occupy(room.getId(), checkIn, checkOut, holdExpiresAt);
+            results.add(BookingResult.success(
+                    booking.getBookingReference(),
+                    room.getRoomNumber(),
+                    room.getType().getDisplayName(),
+                    guestName,
+                    checkInStr,
+                    checkOutStr,
+                    numberOfNights,
+                    room.getPricePerNight(),
+                    booking.getTotalPrice(),
+                    holdExpiresAt));
+        }
+        readYourWrites.recordBookingWrite(property.getCode(),
+                results.stream().map(BookingResult::bookingReference).toList());
+        log.atInfo().setMessage("Group booking created")
+                .addKeyValue("rooms", results.size())
+                .log();
+
+        return GroupBookingResult.success(property.getCode(), checkInStr, checkOutStr, numberOfNights, results);
     }
 
     /**
-     * Confirm a pending booking.
+     * Confirm a pending booking. The booking row is locked first, so a hold
+     * the sweeper is cancelling concurrently is seen as cancelled rather
+     * than confirmed over.
      */
     public ConfirmationResult confirmBooking(String bookingReference) {
-        log.info("Confirming booking: {}", bookingReference);
+        log.atInfo().setMessage("Confirming booking")
+                .addKeyValue("reference", bookingReference)
+                .log();
 
-        Optional<Booking> bookingOpt = bookingRepository.findByBookingReference(bookingReference);
+        Optional<Booking> bookingOpt = bookingRepository.lockByBookingReference(bookingReference);
         if (bookingOpt.isEmpty()) {
             return ConfirmationResult.notFound(bookingReference);
         }
@@ -140,13 +334,32 @@ public class BookingService {
         }
 
         if (booking.getStatus() == BookingStatus.CANCELLED) {
-            return ConfirmationResult.failure(bookingReference,
+            return ConfirmationResult.failure(bookingReference, ToolOutcome.CONFLICT,
                     "Cannot confirm a cancelled booking.");
         }
 
+        if (booking.getStatus() == BookingStatus.COMPLETED) {
+            return ConfirmationResult.failure(bookingReference, ToolOutcome.CONFLICT,
+                    "Cannot confirm a completed booking.");
+        }
+
+        if (booking.isHoldExpired(LocalDateTime.now())) {
+            return ConfirmationResult.failure(bookingReference, ToolOutcome.CONFLICT,
+                    "The hold on this booking expired at " + booking.getHoldExpiresAt()
+                            + " and the room has been released. Please book again.");
+        }
+
+        LocalDateTime holdExpiresAt = booking.getHoldExpiresAt();
         booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setHoldExpiresAt(null);
         bookingRepository.save(booking);
-        log.info("Booking confirmed: {}", bookingReference);
+        availabilityIndex.confirm(booking.getRoom().getId(), holdExpiresAt);
+        // Only PENDING gets this far, under the row lock, so the nights are counted exactly once
+        occupancyService.recordSold(booking);
+        readYourWrites.recordBookingWrite(null, List.of(bookingReference));
+        log.atInfo().setMessage("Booking confirmed")
+                .addKeyValue("reference", bookingReference)
+                .log();
 
         return ConfirmationResult.success(
                 bookingReference,
@@ -157,24 +370,196 @@ public class BookingService {
     }
 
     /**
-     * Get booking details by reference.
+     * Get booking details by reference, falling back to the archive for
+     * bookings that have been moved out of the bookings table.
      */
     @Transactional(readOnly = true)
     public BookingDetails getBookingDetails(String bookingReference) {
-        log.info("Fetching booking details: {}", bookingReference);
+        log.atInfo().setMessage("Fetching booking details")
+                .addKeyValue("reference", bookingReference)
+                .log();
 
-        return bookingRepository.findByBookingReference(bookingReference)
-                .map(BookingDetails::from)
+        readYourWrites.readBookings(List.of(bookingReference));
+        return bookingRepository.findDetailsByBookingReference(bookingReference)
+                .or(() -> archivedBookingRepository.findDetailsByBookingReference(bookingReference))
                 .orElse(BookingDetails.notFound(bookingReference));
     }
 
     /**
-     * Cancel a booking.
+     * Get details of several bookings with a single query, plus one archive
+     * query for any references not in the bookings table.
+     * Results follow the order of the requested references. Batches of more
+     * than the maximum batch size are rejected with a single error entry.
+     */
+    @Transactional(readOnly = true)
+    public List<BookingDetails> getBookingDetails(List<String> bookingReferences) {
+        log.atInfo().setMessage("Fetching booking details")
+                .addKeyValue("references", bookingReferences.size())
+                .log();
+
+        List<String> distinctReferences = bookingReferences.stream().distinct().toList();
+        if (distinctReferences.size() > maxBatchSize) {
+            return List.of(BookingDetails.error(ToolOutcome.VALIDATION_ERROR,
+                    "At most " + maxBatchSize + " bookings can be retrieved at once."));
+        }
+        readYourWrites.readBookings(distinctReferences);
+        Map<String, BookingDetails> details = bookingRepository.findDetailsByBookingReferenceIn(distinctReferences)
+                .stream()
+                .collect(Collectors.toMap(BookingDetails::bookingReference, Function.identity(),
+                        (first, second) -> first, HashMap::new));
+        List<String> missing = distinctReferences.stream().filter(reference -> !details.containsKey(reference)).toList();
+        if (!missing.isEmpty()) {
+            archivedBookingRepository.findDetailsByBookingReferenceIn(missing)
+                    .forEach(archived -> details.put(archived.bookingReference(), archived));
+        }
+
+        return distinctReferences.stream()
+                .map(reference -> details.getOrDefault(reference, BookingDetails.notFound(reference)))
+                .toList();
+    }
+
+    /**
+     * List a property's bookings one page at a time, ordered by check-in date.
+     * Pages are keyset-paginated on (check-in date, id), so each page costs
+     * the same however deep into a large listing it is.
+     */
+    @Transactional(readOnly = true)
+    public BookingPage listBookings(String propertyCode, String statusStr, String fromStr, String toStr,
+            String cursor, Integer pageSize) {
+        log.atInfo().setMessage("Listing bookings")
+                .addKeyValue("property", propertyCode)
+                .addKeyValue("status", statusStr)
+                .addKeyValue("from", fromStr)
+                .addKeyValue("to", toStr)
+                .addKeyValue("cursor", cursor)
+                .log();
+
+        Optional<Property> propertyOpt = propertyService.resolve(propertyCode);
+        if (propertyOpt.isEmpty()) {
+            return BookingPage.error(ToolOutcome.NOT_FOUND, "Property '" + propertyCode + "' not found.");
+        }
+        Property property = propertyOpt.get();
+
+        List<BookingStatus> statuses;
+        try {
+            statuses = parseStatuses(statusStr);
+        } catch (IllegalArgumentException e) {
+            return BookingPage.error(ToolOutcome.VALIDATION_ERROR, "Invalid status: " + statusStr +
+                    ". Valid statuses are: PENDING, CONFIRMED, CANCELLED, COMPLETED");
+        }
+
+        LocalDate from, to;
+        try {
+            from = (fromStr == null || fromStr.isBlank()) ? LIST_MIN_DATE : LocalDate.parse(fromStr);
+            to = (toStr == null || toStr.isBlank()) ? LIST_MAX_DATE : LocalDate.parse(toStr);
+        } catch (DateTimeParseException e) {
+            return BookingPage.error(ToolOutcome.VALIDATION_ERROR,
+                    "Invalid date format. Please use YYYY-MM-DD format.");
+        }
+
+        LocalDate afterDate = from;
+        long afterId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = decodeCursor(cursor, 2);
+                afterDate = LocalDate.parse(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+                return BookingPage.error(ToolOutcome.VALIDATION_ERROR, INVALID_CURSOR);
+            }
+        }
+
+        int limit = Math.max(1, Math.min(pageSize == null ? DEFAULT_PAGE_SIZE : pageSize, maxPageSize));
+        List<BookingSummary> rows = bookingRepository.findSummariesAfter(
+                property.getId(), statuses, to, afterDate, afterId, Limit.of(limit + 1));
+
+        if (rows.size() <= limit) {
+            return BookingPage.of(property.getCode(), rows, null);
+        }
+        List<BookingSummary> page = rows.subList(0, limit);
+        BookingSummary last = page.get(limit - 1);
+        return BookingPage.of(property.getCode(), List.copyOf(page), encodeCursor(last.checkIn() + "/" + last.id()));
+    }
+
+    /**
+     * List a guest's bookings by email one page at a time, newest check-in
+     * first. Bookings in the bookings table come first, then archived ones.
+     * Both are keyset-paginated on (check-in date, id) over a
+     * (guest_email, check_in_date, id) index, so pages stay cheap however
+     * many bookings share the email.
+     */
+    @Transactional(readOnly = true)
+    public BookingPage findGuestBookings(String guestEmail, String statusStr, String cursor, Integer pageSize) {
+        log.atInfo().setMessage("Finding guest bookings")
+                .addKeyValue("status", statusStr)
+                .addKeyValue("cursor", cursor)
+                .log();
+
+        if (guestEmail == null || !EMAIL_PATTERN.matcher(guestEmail.trim()).matches()) {
+            return BookingPage.error(ToolOutcome.VALIDATION_ERROR, "Valid email address is required.");
+        }
+        // Bookings store the email trimmed and lowercased
+        String email = guestEmail.trim().toLowerCase();
+
+        List<BookingStatus> statuses;
+        try {
+            statuses = parseStatuses(statusStr);
+        } catch (IllegalArgumentException e) {
+            return BookingPage.error(ToolOutcome.VALIDATION_ERROR, "Invalid status: " + statusStr +
+                    ". Valid statuses are: PENDING, CONFIRMED, CANCELLED, COMPLETED");
+        }
+
+        boolean archived = false;
+        LocalDate beforeDate = LIST_MAX_DATE;
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = decodeCursor(cursor, 3);
+                archived = switch (parts[0]) {
+                    case GUEST_CURSOR_BOOKINGS -> false;
+                    case GUEST_CURSOR_ARCHIVE -> true;
+                    default -> throw new IllegalArgumentException(parts[0]);
+                };
+                beforeDate = LocalDate.parse(parts[1]);
+                beforeId = Long.parseLong(parts[2]);
+            } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+                return BookingPage.error(ToolOutcome.VALIDATION_ERROR, INVALID_CURSOR);
+            }
+        }
+
+        int limit = Math.max(1, Math.min(pageSize == null ? DEFAULT_PAGE_SIZE : pageSize, maxPageSize));
+        List<BookingSummary> rows = new ArrayList<>(limit + 1);
+        if (!archived) {
+            rows.addAll(bookingRepository.findGuestSummariesBefore(
+                    email, statuses, beforeDate, beforeId, Limit.of(limit + 1)));
+        }
+        int fromBookings = archived ? 0 : rows.size();
+        if (rows.size() <= limit) {
+            // Continue with the archive from its newest booking, or from the cursor
+            rows.addAll(archivedBookingRepository.findGuestSummariesBefore(email, statuses,
+                    archived ? beforeDate : LIST_MAX_DATE, archived ? beforeId : Long.MAX_VALUE,
+                    Limit.of(limit + 1 - rows.size())));
+        }
+
+        if (rows.size() <= limit) {
+            return BookingPage.of(null, List.copyOf(rows), null);
+        }
+        List<BookingSummary> page = rows.subList(0, limit);
+        BookingSummary last = page.get(limit - 1);
+        String source = limit <= fromBookings ? GUEST_CURSOR_BOOKINGS : GUEST_CURSOR_ARCHIVE;
+        return BookingPage.of(null, List.copyOf(page), encodeCursor(source + "/" + last.checkIn() + "/" + last.id()));
+    }
+
+    /**
+     * Cancel a booking. The booking row is locked first, so concurrent
+     * cancels and confirms of the same booking apply one after the other.
      */
     public CancellationResult cancelBooking(String bookingReference) {
-        log.info("Cancelling booking: {}", bookingReference);
+        log.atInfo().setMessage("Cancelling booking")
+                .addKeyValue("reference", bookingReference)
+                .log();
 
-        Optional<Booking> bookingOpt = bookingRepository.findByBookingReference(bookingReference);
+        Optional<Booking> bookingOpt = bookingRepository.lockByBookingReference(bookingReference);
         if (bookingOpt.isEmpty()) {
             return CancellationResult.notFound(bookingReference);
         }
@@ -185,21 +570,115 @@ public class BookingService {
             return CancellationResult.alreadyCancelled(bookingReference);
         }
 
-        String previousStatus = booking.getStatus().getDisplayName();
+        BookingStatus previous = booking.getStatus();
+        String previousStatus = previous.getDisplayName();
         booking.setStatus(BookingStatus.CANCELLED);
         bookingRepository.save(booking);
-        log.info("Booking cancelled: {}", bookingReference);
+        if (previous == BookingStatus.PENDING || previous == BookingStatus.CONFIRMED) {
+            bookingSlotRepository.deleteByBookingId(booking.getId());
+            availabilityIndex.release(booking.getRoom().getId(), booking.getCheckInDate(), booking.getCheckOutDate(),
+                    booking.getHoldExpiresAt());
+        }
+        // previous was read under the row lock, so a concurrent cancel sees CANCELLED and never gets here
+        if (previous == BookingStatus.CONFIRMED || previous == BookingStatus.COMPLETED) {
+            occupancyService.recordUnsold(booking);
+        }
+        readYourWrites.recordBookingWrite(
+                readYourWrites.isEnabled() ? booking.getRoom().getProperty().getCode() : null,
+                List.of(bookingReference));
+        log.atInfo().setMessage("Booking cancelled")
+                .addKeyValue("reference", bookingReference)
+                .log();
 
         return CancellationResult.success(bookingReference, previousStatus);
     }
 
     /**
-     * Generate a unique booking reference.
-     * Format: HBK-YYYYMMDD-XXXX (e.g., HBK-20260112-A7B3)
+     * Parse an optional status filter; blank means every status.
+     */
+    private static List<BookingStatus> parseStatuses(String statusStr) {
+        return (statusStr == null || statusStr.isBlank())
+                ? List.of(BookingStatus.values())
+                : List.of(BookingStatus.valueOf(statusStr.trim().toUpperCase()));
+    }
+
+    private static String encodeCursor(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor, int parts) {
+        return new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8).split("/", parts);
+    }
+
+    /**
+     * Price of a stay in the room from the rate calendar.
      */
-    private String generateBookingReference() {
-        String datePart = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String randomPart = String.format("%04X", random.nextInt(0xFFFF));
-        return "HBK-" + datePart + "-" + randomPart;
+    private BigDecimal stayTotal(Room room, LocalDate checkIn, LocalDate checkOut) {
+        return rateCalendar.stayTotal(room.getProperty().getId(), room.getType(), room.getPricePerNight(),
+                checkIn, checkOut);
+    }
+
+    /**
+     * When a booking created now stops holding its room unless confirmed,
+     * or null if holds never expire.
+     */
+    private LocalDateTime holdExpiry() {
+        return holdTtl.isZero() || holdTtl.isNegative() ? null : LocalDateTime.now().plus(holdTtl);
+    }
+
+    /**
+     * Validate guest details and stay dates.
+     *
+     * @return an error message, or null if the request is valid
+     */
+    private static String validateRequest(String guestName, String guestEmail, String checkInStr, String checkOutStr) {
+        if (guestName == null || guestName.trim().isEmpty()) {
+            return "Guest name is required.";
+        }
+        if (guestEmail == null || !EMAIL_PATTERN.matcher(guestEmail).matches()) {
+            return "Valid email address is required.";
+        }
+
+        // Parse dates
+        LocalDate checkIn, checkOut;
+        try {
+            checkIn = LocalDate.parse(checkInStr);
+            checkOut = LocalDate.parse(checkOutStr);
+        } catch (DateTimeParseException | NullPointerException e) {
+            return "Invalid date format. Please use YYYY-MM-DD format.";
+        }
+
+        // Validate dates
+        if (checkIn.isBefore(LocalDate.now())) {
+            return "Check-in date cannot be in the past.";
+        }
+        if (checkOut.isBefore(checkIn) || checkOut.equals(checkIn)) {
+            return "Check-out date must be after check-in date.";
+        }
+        return null;
+    }
+
+    /**
+     * Insert one slot per day held by each booking.
+     *
+     * @return false if another booking already holds one of the days
+     */
+    private boolean reserveSlots(List<Booking> bookings) {
+        List<BookingSlot> slots = new ArrayList<>();
+        for (Booking booking : bookings) {
+            for (LocalDate day = booking.getCheckInDate(); !day.isAfter(booking.getCheckOutDate()); day = day.plusDays(1)) {
+                slots.add(new BookingSlot(booking.getRoom().getId(), day, booking.getId()));
+            }
+        }
+
+        try {
+            bookingSlotRepository.saveAllAndFlush(slots);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.atInfo().setMessage("Slot conflict while reserving bookings")
+                    .addKeyValue("bookings", bookings.size())
+                    .log();
+            return false;
+        }
     }
 }
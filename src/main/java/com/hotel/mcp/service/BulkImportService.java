@@ -0,0 +1,127 @@
+package com.hotel.mcp.service;
+
+import com.hotel.mcp.entity.Booking;
+import com.hotel.mcp.entity.BookingSlot;
+import com.hotel.mcp.entity.BookingStatus;
+import com.hotel.mcp.entity.Property;
+import com.hotel.mcp.entity.Room;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Bulk loader for room inventory and booking history.
+ *
+ * Entities are persisted in chunks of the JDBC batch size and the persistence
+ * context is flushed and cleared after each chunk. Hibernate sends every chunk
+ * as one ordered insert batch per table, ids come from pooled sequences
+ * without a round trip per row, and memory use does not grow with the import.
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final AvailabilityIndex availabilityIndex;
+    private final OccupancyService occupancyService;
+    private final int batchSize;
+
+    public BulkImportService(EntityManager entityManager, PlatformTransactionManager transactionManager,
+            AvailabilityIndex availabilityIndex, OccupancyService occupancyService,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.availabilityIndex = availabilityIndex;
+        this.occupancyService = occupancyService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import rooms into an existing property in one transaction.
+     * The rooms have their ids assigned when this returns.
+     */
+    public int importRooms(Property property, List<Room> rooms) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            int pending = 0;
+            for (Room room : rooms) {
+                room.setProperty(property);
+                entityManager.persist(room);
+                if (++pending == batchSize) {
+                    flushAndClear();
+                    pending = 0;
+                }
+            }
+            entityManager.flush();
+        });
+        logRate("rooms", rooms.size(), start);
+        return rooms.size();
+    }
+
+    /**
+     * Import bookings for rooms that are already stored, in one transaction.
+     * Pending and confirmed bookings also get their day slots, so overlapping
+     * active bookings fail the import. The availability index and the
+     * occupancy aggregates are rebuilt once the import has committed.
+     */
+    public long importBookings(Iterator<Booking> bookings) {
+        long start = System.nanoTime();
+        Long imported = transactionTemplate.execute(status -> {
+            long count = 0;
+            int pending = 0;
+            while (bookings.hasNext()) {
+                Booking booking = bookings.next();
+                entityManager.persist(booking);
+                pending++;
+                if (booking.getStatus() == BookingStatus.PENDING || booking.getStatus() == BookingStatus.CONFIRMED) {
+                    pending += persistSlots(booking);
+                }
+                count++;
+                if (pending >= batchSize) {
+                    flushAndClear();
+                    pending = 0;
+                }
+            }
+            entityManager.flush();
+            return count;
+        });
+        logRate("bookings", imported, start);
+
+        availabilityIndex.rebuild();
+        occupancyService.rebuild();
+        return imported;
+    }
+
+    /**
+     * Persist one slot per day the booking holds, check-out day included.
+     */
+    private int persistSlots(Booking booking) {
+        int slots = 0;
+        Long roomId = booking.getRoom().getId();
+        for (LocalDate day = booking.getCheckInDate(); !day.isAfter(booking.getCheckOutDate()); day = day.plusDays(1)) {
+            entityManager.persist(new BookingSlot(roomId, day, booking.getId()));
+            slots++;
+        }
+        return slots;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static void logRate(String what, long rows, long startNanos) {
+        long millis = Math.max((System.nanoTime() - startNanos) / 1_000_000, 1);
+        log.info("Imported {} {} in {} ms ({} rows/s)", rows, what, millis, rows * 1000 / millis);
+    }
+}
@@ -0,0 +1,93 @@
+package com.hotel.mcp.service;
+
+import com.hotel.mcp.entity.Booking;
+import com.hotel.mcp.entity.BookingStatus;
+import com.hotel.mcp.repository.BookingRepository;
+import com.hotel.mcp.repository.BookingSlotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Cancels PENDING bookings whose hold has expired, releasing their slots
+ * and their days in the availability index.
+ *
+ * Availability queries already treat expired holds as free; sweeping them
+ * keeps the active booking set small and frees the slot rows so the days
+ * can be booked again.
+ */
+@Component
+public class HoldSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(HoldSweeper.class);
+
+    private final BookingRepository bookingRepository;
+    private final BookingSlotRepository bookingSlotRepository;
+    private final AvailabilityIndex availabilityIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public HoldSweeper(BookingRepository bookingRepository, BookingSlotRepository bookingSlotRepository,
+            AvailabilityIndex availabilityIndex, PlatformTransactionManager transactionManager,
+            @Value("${hotel.booking.hold-sweep.batch-size:500}") int batchSize) {
+        this.bookingRepository = bookingRepository;
+        this.bookingSlotRepository = bookingSlotRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Cancel all expired holds, one batch per transaction.
+     */
+    @Scheduled(fixedDelayString = "${hotel.booking.hold-sweep.interval:PT1M}")
+    public void sweep() {
+        int total = 0;
+        int swept;
+        do {
+            swept = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                return cancel(bookingRepository.lockExpiredHolds(now, Limit.of(batchSize)));
+            });
+            total += swept;
+        } while (swept == batchSize);
+
+        if (total > 0) {
+            log.info("Cancelled {} expired booking holds", total);
+        }
+    }
+
+    /**
+     * Cancel the expired holds on the given rooms that overlap the dates, so
+     * their slots can be taken by a new booking. Runs in the caller's
+     * transaction, which should already hold the room locks.
+     */
+    public int expireHolds(Collection<Long> roomIds, LocalDate checkIn, LocalDate checkOut) {
+        return cancel(bookingRepository.lockExpiredHoldsForRooms(roomIds, checkIn, checkOut));
+    }
+
+    private int cancel(List<Booking> holds) {
+        if (holds.isEmpty()) {
+            return 0;
+        }
+
+        // Managed entities are flushed as one JDBC batch (hibernate.jdbc.batch_size)
+        for (Booking hold : holds) {
+            hold.setStatus(BookingStatus.CANCELLED);
+            availabilityIndex.release(hold.getRoom().getId(), hold.getCheckInDate(), hold.getCheckOutDate(),
+                    hold.getHoldExpiresAt());
+        }
+        bookingSlotRepository.deleteByBookingIdIn(holds.stream().map(Booking::getId).toList());
+        return holds.size();
+    }
+}
@@ -0,0 +1,206 @@
+package com.hotel.mcp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.mcp.dto.ToolOutcome;
+import com.hotel.mcp.entity.IdempotencyKey;
+import com.hotel.mcp.repository.IdempotencyKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Runs mutating tool calls at most once per idempotency key.
+ *
+ * A key is claimed in the idempotency_keys table before the call runs. When
+ * the call succeeds its result is stored with the key and any retry within
+ * the TTL gets that result back without touching rooms or bookings. Failed
+ * calls release the key so they can be retried. Recent results are also kept
+ * in a bounded in-memory LRU so most retries never reach the database.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Map<String, Replay> recent;
+
+    public IdempotencyService(IdempotencyKeyRepository repository, ObjectMapper objectMapper,
+            @Value("${hotel.idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${hotel.idempotency.cache-size:10000}") int cacheSize) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Replay> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Run a tool call, or replay the stored result of an earlier call with the
+     * same key. Without a key the call simply runs.
+     *
+     * @param tool      tool name, which scopes the key
+     * @param key       client-supplied idempotency key, may be null
+     * @param type      result type, used to read stored results back
+     * @param completed whether a result should be stored and replayed
+     * @param rejected  builds the result, with its outcome and message, returned when the key cannot be used
+     * @param call      the call itself
+     * @param arguments tool arguments; a key reused with different arguments is rejected
+     */
+    public <T> T execute(String tool, String key, Class<T> type, Predicate<T> completed,
+            BiFunction<ToolOutcome, String, T> rejected, Supplier<T> call, Object... arguments) {
+        if (key == null || key.isBlank()) {
+            return call.get();
+        }
+        if (key.trim().length() > MAX_KEY_LENGTH) {
+            return rejected.apply(ToolOutcome.VALIDATION_ERROR,
+                    "Idempotency key must be at most " + MAX_KEY_LENGTH + " characters.");
+        }
+
+        String id = tool + ":" + key.trim();
+        String requestHash = hash(arguments);
+
+        Replay replay = recent.get(id);
+        if (replay != null && replay.expiresAt().isAfter(LocalDateTime.now())) {
+            return replay(replay.requestHash(), requestHash, type.cast(replay.result()), rejected);
+        }
+
+        Optional<T> previous = findPrevious(id, requestHash, type, rejected);
+        if (previous.isPresent()) {
+            return previous.get();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            repository.saveAndFlush(new IdempotencyKey(id, tool, requestHash, now, now.plus(ttl)));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent call claimed the key first
+            return findPrevious(id, requestHash, type, rejected).orElseGet(() -> inProgress(rejected));
+        }
+
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            repository.deleteById(id);
+            throw e;
+        }
+
+        if (!completed.test(result)) {
+            repository.deleteById(id);
+            return result;
+        }
+
+        // The booking is committed; if the result cannot be stored the key stays claimed
+        // until it expires rather than letting a retry book again
+        try {
+            repository.complete(id, objectMapper.writeValueAsString(result));
+            recent.put(id, new Replay(requestHash, result, now.plus(ttl)));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Could not store result for idempotency key {}: {}", id, e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Drop expired keys.
+     */
+    @Scheduled(fixedDelayString = "${hotel.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        recent.values().removeIf(replay -> !replay.expiresAt().isAfter(now));
+        int purged = repository.deleteExpired(now);
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    /**
+     * Look up an earlier call with this key on the primary, where a key
+     * claimed or completed moments ago is guaranteed to be visible.
+     */
+    private <T> Optional<T> findPrevious(String id, String requestHash, Class<T> type,
+            BiFunction<ToolOutcome, String, T> rejected) {
+        Optional<IdempotencyKey> stored = ReadYourWrites.onPrimary(() -> repository.findById(id));
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+
+        IdempotencyKey previous = stored.get();
+        if (!previous.getExpiresAt().isAfter(LocalDateTime.now())) {
+            repository.deleteIfExpired(id, LocalDateTime.now());
+            return Optional.empty();
+        }
+        if (previous.getResponse() == null) {
+            return Optional.of(previous.getRequestHash().equals(requestHash)
+                    ? inProgress(rejected)
+                    : mismatch(rejected));
+        }
+
+        try {
+            T result = objectMapper.readValue(previous.getResponse(), type);
+            recent.put(id, new Replay(previous.getRequestHash(), result, previous.getExpiresAt()));
+            return Optional.of(replay(previous.getRequestHash(), requestHash, result, rejected));
+        } catch (JsonProcessingException e) {
+            log.warn("Stored result for idempotency key {} is unreadable: {}", id, e.getMessage());
+            return Optional.of(inProgress(rejected));
+        }
+    }
+
+    private static <T> T replay(String storedHash, String requestHash, T result,
+            BiFunction<ToolOutcome, String, T> rejected) {
+        return storedHash.equals(requestHash) ? result : mismatch(rejected);
+    }
+
+    private static <T> T inProgress(BiFunction<ToolOutcome, String, T> rejected) {
+        return rejected.apply(ToolOutcome.CONFLICT,
+                "A request with this idempotency key is already being processed. "
+                + "Please try again shortly.");
+    }
+
+    private static <T> T mismatch(BiFunction<ToolOutcome, String, T> rejected) {
+        return rejected.apply(ToolOutcome.CONFLICT,
+                "This idempotency key was already used for a different request. "
+                + "Use a new key for a new request.");
+    }
+
+    private static String hash(Object... arguments) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                    digest.digest(Arrays.deepToString(arguments).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Replay(String requestHash, Object result, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,298 @@
+package com.hotel.mcp.service;
+
+import com.hotel.mcp.dto.OccupancyReport;
+import com.hotel.mcp.dto.OccupancyStats;
+import com.hotel.mcp.dto.SoldStay;
+import com.hotel.mcp.dto.ToolOutcome;
+import com.hotel.mcp.entity.Booking;
+import com.hotel.mcp.entity.Property;
+import com.hotel.mcp.entity.Room;
+import com.hotel.mcp.entity.RoomType;
+import com.hotel.mcp.repository.ArchivedBookingRepository;
+import com.hotel.mcp.repository.BookingRepository;
+import com.hotel.mcp.repository.DailyOccupancyRepository;
+import com.hotel.mcp.repository.RoomRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the daily occupancy aggregates and answers occupancy reports
+ * from them alone.
+ *
+ * BookingService reports every transition into or out of a sold status
+ * (confirmed or completed), and must do so only after making that transition
+ * under the booking's row lock; otherwise concurrent calls would count the
+ * same booking twice. The per-night deltas are collected for the
+ * whole transaction, netted, and upserted just before it commits in key
+ * order, so concurrent transactions take the aggregate row locks in the
+ * same order and hold them only briefly.
+ */
+@Service
+public class OccupancyService {
+
+    private static final Logger log = LoggerFactory.getLogger(OccupancyService.class);
+
+    private static final String UPSERT_QUERY = """
+            INSERT INTO DailyOccupancy (propertyId, stayDate, roomType, roomsSold, roomRevenue)
+            VALUES (:propertyId, :stayDate, :roomType, :roomsSold, :roomRevenue)
+            ON CONFLICT (propertyId, stayDate, roomType) DO UPDATE
+            SET roomsSold = roomsSold + excluded.roomsSold,
+                roomRevenue = roomRevenue + excluded.roomRevenue
+            """;
+
+    private final DailyOccupancyRepository dailyOccupancyRepository;
+    private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private final RoomRepository roomRepository;
+    private final PropertyService propertyService;
+    private final EntityManager entityManager;
+    private final int maxReportDays;
+
+    public OccupancyService(DailyOccupancyRepository dailyOccupancyRepository,
+            BookingRepository bookingRepository, ArchivedBookingRepository archivedBookingRepository,
+            RoomRepository roomRepository, PropertyService propertyService, EntityManager entityManager,
+            @Value("${hotel.occupancy-report.max-days:1096}") int maxReportDays) {
+        this.dailyOccupancyRepository = dailyOccupancyRepository;
+        this.bookingRepository = bookingRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
+        this.roomRepository = roomRepository;
+        this.propertyService = propertyService;
+        this.entityManager = entityManager;
+        this.maxReportDays = maxReportDays;
+    }
+
+    /**
+     * Count a booking's nights as sold. Applied when the surrounding
+     * transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSold(Booking booking) {
+        addNights(pendingDeltas(), booking, 1);
+    }
+
+    /**
+     * Stop counting a previously sold booking's nights. Applied when the
+     * surrounding transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUnsold(Booking booking) {
+        addNights(pendingDeltas(), booking, -1);
+    }
+
+    /**
+     * Recompute every aggregate from the sold bookings and the archive.
+     * Scans both tables, so it is meant for bulk imports and repairs, not
+     * for the booking path.
+     */
+    @Transactional
+    public void rebuild() {
+        Map<Key, Delta> totals = new TreeMap<>();
+        try (Stream<SoldStay> stays = bookingRepository.streamSoldStays()) {
+            stays.forEach(stay -> addNights(totals, stay, 1));
+        }
+        try (Stream<SoldStay> stays = archivedBookingRepository.streamSoldStays()) {
+            stays.forEach(stay -> addNights(totals, stay, 1));
+        }
+
+        dailyOccupancyRepository.deleteAllInBatch();
+        apply(totals);
+        log.info("Daily occupancy rebuilt: {} rows", totals.size());
+    }
+
+    /**
+     * Occupancy, ADR and RevPAR between two stay dates (inclusive), in one
+     * property or in all properties if the code is blank. Reads only the
+     * aggregates and the room counts; room nights available are based on
+     * the rooms currently open for sale.
+     */
+    @Transactional(readOnly = true)
+    public OccupancyReport getOccupancyReport(String propertyCode, String fromStr, String toStr) {
+        log.atInfo().setMessage("Building occupancy report")
+                .addKeyValue("property", propertyCode)
+                .addKeyValue("from", fromStr)
+                .addKeyValue("to", toStr)
+                .log();
+
+        Long propertyId = null;
+        String code = null;
+        if (propertyCode != null && !propertyCode.isBlank()) {
+            Optional<Property> propertyOpt = propertyService.resolve(propertyCode);
+            if (propertyOpt.isEmpty()) {
+                return OccupancyReport.error(ToolOutcome.NOT_FOUND, "Property '" + propertyCode + "' not found.");
+            }
+            propertyId = propertyOpt.get().getId();
+            code = propertyOpt.get().getCode();
+        }
+
+        LocalDate from, to;
+        try {
+            from = LocalDate.parse(fromStr);
+            to = LocalDate.parse(toStr);
+        } catch (DateTimeParseException e) {
+            return OccupancyReport.error(ToolOutcome.VALIDATION_ERROR,
+                    "Invalid date format. Please use YYYY-MM-DD format.");
+        }
+        if (to.isBefore(from)) {
+            return OccupancyReport.error(ToolOutcome.VALIDATION_ERROR, "End date must not be before the start date.");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > maxReportDays) {
+            return OccupancyReport.error(ToolOutcome.VALIDATION_ERROR,
+                    "Reports can cover at most " + maxReportDays + " days.");
+        }
+
+        Map<RoomType, Long> rooms = new EnumMap<>(RoomType.class);
+        for (Object[] row : roomRepository.countAvailableRoomsByType(propertyId)) {
+            rooms.put((RoomType) row[0], ((Number) row[1]).longValue());
+        }
+        long totalRooms = rooms.values().stream().mapToLong(Long::longValue).sum();
+
+        Map<RoomType, Object[]> sold = new EnumMap<>(RoomType.class);
+        for (Object[] row : dailyOccupancyRepository.summarizeByRoomType(propertyId, from, to)) {
+            sold.put((RoomType) row[0], row);
+        }
+
+        List<OccupancyStats> roomTypes = new ArrayList<>();
+        long totalSold = 0;
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        for (RoomType type : RoomType.values()) {
+            Object[] row = sold.get(type);
+            long nights = row == null ? 0 : ((Number) row[1]).longValue();
+            BigDecimal revenue = row == null ? BigDecimal.ZERO : (BigDecimal) row[2];
+            roomTypes.add(OccupancyStats.of(type.name(), rooms.getOrDefault(type, 0L) * days, nights, revenue));
+            totalSold += nights;
+            totalRevenue = totalRevenue.add(revenue);
+        }
+
+        List<OccupancyStats> months = new ArrayList<>();
+        List<Object[]> monthRows = new ArrayList<>(dailyOccupancyRepository.summarizeByMonth(propertyId, from, to));
+        monthRows.sort(Comparator.comparing((Object[] row) -> ((Number) row[0]).intValue())
+                .thenComparing(row -> ((Number) row[1]).intValue()));
+        for (Object[] row : monthRows) {
+            YearMonth month = YearMonth.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+            LocalDate first = month.atDay(1).isBefore(from) ? from : month.atDay(1);
+            LocalDate last = month.atEndOfMonth().isAfter(to) ? to : month.atEndOfMonth();
+            long monthDays = ChronoUnit.DAYS.between(first, last) + 1;
+            months.add(OccupancyStats.of(month.toString(), totalRooms * monthDays,
+                    ((Number) row[2]).longValue(), (BigDecimal) row[3]));
+        }
+
+        return OccupancyReport.of(code, fromStr, toStr, days,
+                OccupancyStats.of("TOTAL", totalRooms * days, totalSold, totalRevenue), roomTypes, months);
+    }
+
+    /**
+     * The deltas collected so far in the current transaction, registering a
+     * synchronization to upsert them before it commits.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Key, Delta> pendingDeltas() {
+        Map<Key, Delta> deltas = (Map<Key, Delta>) TransactionSynchronizationManager.getResource(this);
+        if (deltas != null) {
+            return deltas;
+        }
+
+        Map<Key, Delta> fresh = new TreeMap<>();
+        TransactionSynchronizationManager.bindResource(this, fresh);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                apply(fresh);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OccupancyService.this);
+            }
+        });
+        return fresh;
+    }
+
+    private void addNights(Map<Key, Delta> deltas, Booking booking, int sign) {
+        Room room = booking.getRoom();
+        addNights(deltas, new SoldStay(room.getProperty().getId(), room.getType(), booking.getCheckInDate(),
+                booking.getCheckOutDate(), booking.getTotalPrice()), sign);
+    }
+
+    /**
+     * Spread a stay over its nights (check-in inclusive, check-out exclusive).
+     * Each night takes the total divided by the nights, truncated to the
+     * paisa, and the last night also takes the remainder, so the nights add
+     * up to exactly the booking's total price.
+     */
+    private void addNights(Map<Key, Delta> deltas, SoldStay stay, int sign) {
+        long nights = ChronoUnit.DAYS.between(stay.checkInDate(), stay.checkOutDate());
+        if (stay.propertyId() == null || nights <= 0) {
+            return;
+        }
+
+        BigDecimal total = sign < 0 ? stay.totalPrice().negate() : stay.totalPrice();
+        BigDecimal nightly = total.divide(BigDecimal.valueOf(nights), 2, RoundingMode.DOWN);
+        BigDecimal lastNight = total.subtract(nightly.multiply(BigDecimal.valueOf(nights - 1)));
+        LocalDate last = stay.checkOutDate().minusDays(1);
+        for (LocalDate night = stay.checkInDate(); night.isBefore(stay.checkOutDate()); night = night.plusDays(1)) {
+            Delta delta = new Delta(sign, night.equals(last) ? lastNight : nightly);
+            deltas.merge(new Key(night, stay.propertyId(), stay.roomType()), delta, Delta::plus);
+        }
+    }
+
+    private void apply(Map<Key, Delta> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta.isZero()) {
+                return;
+            }
+            entityManager.createQuery(UPSERT_QUERY)
+                    .setParameter("propertyId", key.propertyId())
+                    .setParameter("stayDate", key.stayDate())
+                    .setParameter("roomType", key.roomType())
+                    .setParameter("roomsSold", delta.roomsSold())
+                    .setParameter("roomRevenue", delta.revenue())
+                    .executeUpdate();
+        });
+    }
+
+    private record Key(LocalDate stayDate, Long propertyId, RoomType roomType) implements Comparable<Key> {
+
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::stayDate)
+                .thenComparing(Key::propertyId)
+                .thenComparing(Key::roomType);
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private record Delta(int roomsSold, BigDecimal revenue) {
+
+        Delta plus(Delta other) {
+            return new Delta(roomsSold + other.roomsSold, revenue.add(other.revenue));
+        }
+
+        boolean isZero() {
+            return roomsSold == 0 && revenue.signum() == 0;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.hotel.mcp.service;
+
+import com.hotel.mcp.entity.Property;
+import com.hotel.mcp.repository.PropertyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service for property lookups.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PropertyService {
+
+    private final PropertyRepository propertyRepository;
+    private final String defaultPropertyCode;
+
+    public PropertyService(PropertyRepository propertyRepository,
+            @Value("${hotel.default-property-code:MAIN}") String defaultPropertyCode) {
+        this.propertyRepository = propertyRepository;
+        this.defaultPropertyCode = defaultPropertyCode;
+    }
+
+    /**
+     * Resolve a property by code, falling back to the default property
+     * when no code is given.
+     */
+    public Optional<Property> resolve(String propertyCode) {
+        return propertyRepository.findByCode(normalizeCode(propertyCode));
+    }
+
+    /**
+     * The code a property lookup will use, without querying the database.
+     */
+    public String normalizeCode(String propertyCode) {
+        return (propertyCode == null || propertyCode.isBlank())
+                ? defaultPropertyCode
+                : propertyCode.trim().toUpperCase();
+    }
+
+    /**
+     * Codes of all active properties.
+     */
+    public List<String> getActivePropertyCodes() {
+        return propertyRepository.findByActiveTrue().stream()
+                .map(Property::getCode)
+                .toList();
+    }
+
+    public String getDefaultPropertyCode() {
+        return defaultPropertyCode;
+    }
+}
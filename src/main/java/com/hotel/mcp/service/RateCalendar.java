@@ -0,0 +1,203 @@
+package com.hotel.mcp.service;
+
+import com.hotel.mcp.config.PricingProperties;
+import com.hotel.mcp.entity.RateAdjustment;
+import com.hotel.mcp.entity.RoomType;
+import com.hotel.mcp.repository.RateAdjustmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Prices stays from the rate calendar.
+ *
+ * A stay costs the room's base price for every night, plus the rate
+ * adjustments of the nights it covers, less any length-of-stay discount.
+ * All arithmetic is on {@code long} paise. The adjustments of each property
+ * and room type are expanded into a prefix-sum array over a rolling horizon
+ * starting today, so the adjustment total of any stay inside the horizon is
+ * one subtraction however long the stay. Nights beyond the horizon are
+ * summed rule by rule. Room types without rules take no memory.
+ */
+@Component
+public class RateCalendar {
+
+    private static final Logger log = LoggerFactory.getLogger(RateCalendar.class);
+    private static final long BASIS_POINTS = 10_000;
+
+    private final RateAdjustmentRepository rateAdjustmentRepository;
+    private final int horizonDays;
+    private final NavigableMap<Integer, Integer> lengthOfStayDiscounts;
+
+    private volatile Snapshot snapshot;
+
+    public RateCalendar(RateAdjustmentRepository rateAdjustmentRepository, PricingProperties properties) {
+        this.rateAdjustmentRepository = rateAdjustmentRepository;
+        this.horizonDays = properties.horizonDays();
+        this.lengthOfStayDiscounts = new TreeMap<>(properties.lengthOfStayDiscounts());
+    }
+
+    /**
+     * Build the calendar once the application (and its data) is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Pick up rule changes and roll the horizon forward.
+     */
+    @Scheduled(fixedDelayString = "${hotel.pricing.refresh-interval:PT5M}",
+            initialDelayString = "${hotel.pricing.refresh-interval:PT5M}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Reload every rule and recompute the prefix sums.
+     */
+    public void rebuild() {
+        Snapshot fresh = new Snapshot(LocalDate.now(), horizonDays, rateAdjustmentRepository.findAll());
+        snapshot = fresh;
+        log.info("Rate calendar rebuilt: base={}, horizonDays={}, rules={}, calendars={}",
+                fresh.baseDate, horizonDays, fresh.ruleCount, fresh.prefixSums.size());
+    }
+
+    /**
+     * Total price in paise of a stay from check-in (inclusive) to check-out
+     * (exclusive) in a room with the given base price per night.
+     */
+    public long stayTotalPaise(Long propertyId, RoomType roomType, BigDecimal pricePerNight,
+            LocalDate checkIn, LocalDate checkOut) {
+        return stayTotalPaise(propertyId, roomType, toPaise(pricePerNight), checkIn, checkOut);
+    }
+
+    /**
+     * Total price in paise of a stay in a room with the given base price per
+     * night in paise. Lets callers pricing many stays convert the base once.
+     */
+    public long stayTotalPaise(Long propertyId, RoomType roomType, long pricePerNightPaise,
+            LocalDate checkIn, LocalDate checkOut) {
+        long nights = checkOut.toEpochDay() - checkIn.toEpochDay();
+        if (nights <= 0) {
+            return 0;
+        }
+
+        long gross = Math.max(0, pricePerNightPaise * nights
+                + adjustmentPaise(propertyId, roomType, checkIn, checkOut));
+        long discount = (gross * lengthOfStayDiscount((int) nights) + BASIS_POINTS / 2) / BASIS_POINTS;
+        return gross - discount;
+    }
+
+    /**
+     * Total price of a stay, as {@link #stayTotalPaise} in rupees.
+     */
+    public BigDecimal stayTotal(Long propertyId, RoomType roomType, BigDecimal pricePerNight,
+            LocalDate checkIn, LocalDate checkOut) {
+        return toRupees(stayTotalPaise(propertyId, roomType, pricePerNight, checkIn, checkOut));
+    }
+
+    /**
+     * Length-of-stay discount in basis points for the given number of nights.
+     */
+    public int lengthOfStayDiscount(int nights) {
+        Map.Entry<Integer, Integer> tier = lengthOfStayDiscounts.floorEntry(nights);
+        return tier == null ? 0 : tier.getValue();
+    }
+
+    public static long toPaise(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toRupees(long paise) {
+        return BigDecimal.valueOf(paise, 2);
+    }
+
+    private long adjustmentPaise(Long propertyId, RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return 0;
+        }
+        Key key = new Key(propertyId, roomType);
+        List<RateAdjustment> rules = current.rules.get(key);
+        if (rules == null) {
+            return 0;
+        }
+
+        long from = checkIn.toEpochDay() - current.baseDay;
+        long to = checkOut.toEpochDay() - current.baseDay;
+        if (from >= 0 && to <= horizonDays) {
+            long[] prefix = current.prefixSums.get(key);
+            return prefix[(int) to] - prefix[(int) from];
+        }
+
+        // Outside the horizon: sum the matching rules night by night
+        long total = 0;
+        for (LocalDate night = checkIn; night.isBefore(checkOut); night = night.plusDays(1)) {
+            for (RateAdjustment rule : rules) {
+                if (rule.appliesTo(night)) {
+                    total += rule.getAdjustmentPaise();
+                }
+            }
+        }
+        return total;
+    }
+
+    private record Key(Long propertyId, RoomType roomType) {
+    }
+
+    /**
+     * Rules grouped by property and room type, with prefix sums of their
+     * nightly adjustments: {@code prefix[i]} is the total for the nights
+     * from the base date up to, not including, base date + i.
+     */
+    private static final class Snapshot {
+
+        private final LocalDate baseDate;
+        private final long baseDay;
+        private final int ruleCount;
+        private final Map<Key, List<RateAdjustment>> rules = new HashMap<>();
+        private final Map<Key, long[]> prefixSums = new HashMap<>();
+
+        Snapshot(LocalDate baseDate, int horizonDays, List<RateAdjustment> all) {
+            this.baseDate = baseDate;
+            this.baseDay = baseDate.toEpochDay();
+            this.ruleCount = all.size();
+
+            for (RateAdjustment rule : all) {
+                Key key = new Key(rule.getPropertyId(), rule.getRoomType());
+                rules.computeIfAbsent(key, k -> new ArrayList<>()).add(rule);
+
+                long[] prefix = prefixSums.computeIfAbsent(key, k -> new long[horizonDays + 1]);
+                long from = Math.max(rule.getStartDate().toEpochDay() - baseDay, 0);
+                long to = Math.min(rule.getEndDate().toEpochDay() - baseDay + 1, horizonDays);
+                // Nightly amounts first; turned into prefix sums below
+                for (long day = from; day < to; day++) {
+                    if (rule.appliesOn(baseDate.plusDays(day).getDayOfWeek())) {
+                        prefix[(int) day + 1] += rule.getAdjustmentPaise();
+                    }
+                }
+            }
+
+            for (long[] prefix : prefixSums.values()) {
+                for (int i = 1; i < prefix.length; i++) {
+                    prefix[i] += prefix[i - 1];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.hotel.mcp.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Read-your-writes guard for read replica routing.
+ *
+ * Booking writes are remembered from the moment they commit for the
+ * replica staleness bound (max lag plus one lag probe interval). Until then
+ * a read-only transaction that reads the written booking, or searches the
+ * property it belongs to, is pinned to the primary. After that every replica
+ * still eligible under the staleness policy has replayed the write.
+ */
+@Component
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(@Value("${hotel.datasource.routing.enabled:false}") boolean enabled,
+            @Value("${hotel.datasource.routing.max-lag:PT2S}") Duration maxLag,
+            @Value("${hotel.datasource.routing.lag-probe-interval:PT1S}") Duration lagProbeInterval) {
+        this.enabled = enabled;
+        this.windowNanos = maxLag.plus(lagProbeInterval).toNanos();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether the current thread must use the primary, consulted by the routing data source.
+     */
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    /**
+     * Run an action outside any transaction with every read going to the primary.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean outermost = PRIMARY_REQUIRED.get() == null;
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (outermost) {
+                PRIMARY_REQUIRED.remove();
+            }
+        }
+    }
+
+    /**
+     * Record bookings written by the current transaction. They count as
+     * recent once the transaction commits.
+     */
+    public void recordBookingWrite(String propertyCode, Collection<String> bookingReferences) {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(bookingReferences.size() + 1);
+        if (propertyCode != null) {
+            keys.add(propertyKey(propertyCode));
+        }
+        bookingReferences.forEach(reference -> keys.add(bookingKey(reference)));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markWritten(keys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWritten(keys);
+            }
+        });
+    }
+
+    /**
+     * Pin the current transaction to the primary if the property had a booking
+     * written recently. Must be called before the transaction's first query.
+     */
+    public void readProperty(String propertyCode) {
+        if (enabled && isRecent(propertyKey(propertyCode))) {
+            requirePrimary();
+        }
+    }
+
+    /**
+     * Pin the current transaction to the primary if any of the bookings was
+     * written recently. Must be called before the transaction's first query.
+     */
+    public void readBookings(Collection<String> bookingReferences) {
+        if (!enabled) {
+            return;
+        }
+        for (String reference : bookingReferences) {
+            if (isRecent(bookingKey(reference))) {
+                requirePrimary();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Route the rest of the current transaction to the primary.
+     */
+    public void requirePrimary() {
+        if (!enabled || isPrimaryRequired() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                PRIMARY_REQUIRED.remove();
+            }
+        });
+    }
+
+    /**
+     * Forget writes every replica has caught up with.
+     */
+    @Scheduled(fixedDelayString = "${hotel.datasource.routing.lag-probe-interval:PT1S}")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        recentWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+
+    private void markWritten(List<String> keys) {
+        long now = System.nanoTime();
+        keys.forEach(key -> recentWrites.put(key, now));
+    }
+
+    private boolean isRecent(String key) {
+        Long writtenAt = recentWrites.get(key);
+        return writtenAt != null && System.nanoTime() - writtenAt < windowNanos;
+    }
+
+    private static String propertyKey(String propertyCode) {
+        return "property:" + propertyCode;
+    }
+
+    private static String bookingKey(String bookingReference) {
+        return "booking:" + bookingReference;
+    }
+}
@@ -0,0 +1,85 @@
+package com.hotel.mcp.service;
+
+import com.hotel.mcp.dto.RoomTypeInfo;
+import com.hotel.mcp.entity.RoomChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of the room type catalog served by list_room_types.
+ *
+ * Entries expire after a TTL and are dropped as soon as a transaction that
+ * changed a room commits, so a cached catalog is never older than the last
+ * room change.
+ */
+@Component
+public class RoomCatalogCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomCatalogCache.class);
+
+    private final long ttlNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile Entry entry;
+    private volatile long generation;
+
+    public RoomCatalogCache(@Value("${hotel.room-catalog.ttl:PT1H}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Return the cached catalog, loading it if missing or expired.
+     */
+    public List<RoomTypeInfo> get(Supplier<List<RoomTypeInfo>> loader) {
+        Entry current = entry;
+        if (current != null && System.nanoTime() - current.loadedAt < ttlNanos) {
+            hits.increment();
+            return current.roomTypes;
+        }
+
+        misses.increment();
+        long loadGeneration = generation;
+        List<RoomTypeInfo> roomTypes = List.copyOf(loader.get());
+        synchronized (this) {
+            // Only publish if nothing invalidated the cache while we were loading
+            if (generation == loadGeneration) {
+                entry = new Entry(roomTypes, System.nanoTime());
+            }
+        }
+        return roomTypes;
+    }
+
+    /**
+     * Drop the cached catalog.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        entry = null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomChanged(RoomChangedEvent event) {
+        log.debug("Room {} changed, invalidating room catalog", event.roomId());
+        invalidate();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private record Entry(List<RoomTypeInfo> roomTypes, long loadedAt) {
+    }
+}
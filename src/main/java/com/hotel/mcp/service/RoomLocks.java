@@ -0,0 +1,89 @@
+package com.hotel.mcp.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped in-process locks guarding booking writes per room.
+ *
+ * Locks are held until the surrounding transaction completes, so the
+ * availability check and the insert of a booking cannot interleave with
+ * another booking for the same room on this node. Acquisition uses a
+ * short timeout so contended requests fail fast instead of queueing.
+ */
+@Component
+public class RoomLocks {
+
+    private final ReentrantLock[] stripes;
+    private final long timeoutMillis;
+
+    public RoomLocks(@Value("${hotel.booking.lock-stripes:256}") int stripeCount,
+            @Value("${hotel.booking.lock-timeout-ms:200}") long timeoutMillis) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Lock the given rooms until the current transaction completes.
+     * Stripes are acquired in index order to avoid deadlocks between
+     * requests locking several rooms.
+     *
+     * @return false if any lock could not be acquired within the timeout
+     */
+    public boolean lockForTransaction(Collection<Long> roomIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Room locks require an active transaction");
+        }
+
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (Long roomId : roomIds) {
+            indexes.add(stripeIndex(roomId));
+        }
+
+        List<ReentrantLock> acquired = new ArrayList<>(indexes.size());
+        try {
+            for (int index : indexes) {
+                ReentrantLock lock = stripes[index];
+                if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    unlockAll(acquired);
+                    return false;
+                }
+                acquired.add(lock);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unlockAll(acquired);
+            return false;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlockAll(acquired);
+            }
+        });
+        return true;
+    }
+
+    private int stripeIndex(Long roomId) {
+        return Math.floorMod(Long.hashCode(roomId) * 0x9E3779B9, stripes.length);
+    }
+
+    private static void unlockAll(List<ReentrantLock> locks) {
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+    }
+}
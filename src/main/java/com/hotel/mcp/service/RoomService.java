@@ -1,13 +1,24 @@
 package com.hotel.mcp.service;
 
+import com.hotel.mcp.dto.AllAvailabilityResult;
 import com.hotel.mcp.dto.AvailabilityResult;
 import com.hotel.mcp.dto.AvailableRoom;
+import com.hotel.mcp.dto.BookingStay;
+import com.hotel.mcp.dto.FlexibleSearchResult;
+import com.hotel.mcp.dto.PriceQuote;
+import com.hotel.mcp.dto.RoomTypeQuote;
 import com.hotel.mcp.dto.RoomTypeInfo;
+import com.hotel.mcp.dto.RoomView;
+import com.hotel.mcp.dto.StayOption;
+import com.hotel.mcp.dto.ToolOutcome;
+import com.hotel.mcp.entity.Property;
 import com.hotel.mcp.entity.Room;
 import com.hotel.mcp.entity.RoomType;
+import com.hotel.mcp.repository.BookingRepository;
 import com.hotel.mcp.repository.RoomRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,7 +27,6 @@ import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Service for room-related operations.
@@ -28,57 +38,86 @@ public class RoomService {
     private static final Logger log = LoggerFactory.getLogger(RoomService.class);
 
     private final RoomRepository roomRepository;
+    private final BookingRepository bookingRepository;
+    private final PropertyService propertyService;
+    private final AvailabilityIndex availabilityIndex;
+    private final RoomCatalogCache roomCatalogCache;
+    private final ReadYourWrites readYourWrites;
+    private final RateCalendar rateCalendar;
+    private final int maxSearchWindowDays;
 
-    public RoomService(RoomRepository roomRepository) {
+    public RoomService(RoomRepository roomRepository, BookingRepository bookingRepository,
+            PropertyService propertyService, AvailabilityIndex availabilityIndex,
+            RoomCatalogCache roomCatalogCache, ReadYourWrites readYourWrites, RateCalendar rateCalendar,
+            @Value("${hotel.flexible-search.max-window-days:62}") int maxSearchWindowDays) {
         this.roomRepository = roomRepository;
+        this.bookingRepository = bookingRepository;
+        this.propertyService = propertyService;
+        this.availabilityIndex = availabilityIndex;
+        this.roomCatalogCache = roomCatalogCache;
+        this.readYourWrites = readYourWrites;
+        this.rateCalendar = rateCalendar;
+        this.maxSearchWindowDays = maxSearchWindowDays;
     }
 
     /**
      * Get information about all room types with pricing and availability.
+     * Served from the room catalog cache; the database is only hit on a miss.
      */
     public List<RoomTypeInfo> getAllRoomTypes() {
         log.info("Fetching all room types");
+        return roomCatalogCache.get(this::loadRoomTypes);
+    }
 
-        List<Room> allRooms = roomRepository.findByAvailableTrue();
+    private List<RoomTypeInfo> loadRoomTypes() {
+        // A catalog loaded from a lagging replica would be cached for the whole TTL
+        readYourWrites.requirePrimary();
 
-        // Group by room type and calculate aggregates
-        Map<RoomType, List<Room>> roomsByType = allRooms.stream()
-                .collect(Collectors.groupingBy(Room::getType));
+        Map<RoomType, Object[]> summaries = new EnumMap<>(RoomType.class);
+        for (Object[] row : roomRepository.summarizeAvailableRoomsByType()) {
+            summaries.put((RoomType) row[0], row);
+        }
 
         List<RoomTypeInfo> result = new ArrayList<>();
-
         for (RoomType type : RoomType.values()) {
-            List<Room> rooms = roomsByType.getOrDefault(type, Collections.emptyList());
-
-            BigDecimal startingPrice = rooms.stream()
-                    .map(Room::getPricePerNight)
-                    .min(BigDecimal::compareTo)
-                    .orElse(BigDecimal.ZERO);
-
-            int maxOccupancy = rooms.stream()
-                    .mapToInt(Room::getMaxOccupancy)
-                    .max()
-                    .orElse(0);
-
-            result.add(RoomTypeInfo.from(type, startingPrice, maxOccupancy, rooms.size()));
+            Object[] row = summaries.get(type);
+            if (row == null) {
+                result.add(RoomTypeInfo.from(type, BigDecimal.ZERO, 0, 0));
+                continue;
+            }
+            result.add(RoomTypeInfo.from(type, (BigDecimal) row[1],
+                    ((Number) row[2]).intValue(), ((Number) row[3]).intValue()));
         }
 
         return result;
     }
 
     /**
-     * Check room availability for specific dates and room type.
+     * Check room availability for specific dates and room type in one property.
+     * A blank property code means the default property.
      */
-    public AvailabilityResult checkAvailability(String roomTypeStr, String checkInStr, String checkOutStr) {
-        log.info("Checking availability for type={}, checkIn={}, checkOut={}",
-                roomTypeStr, checkInStr, checkOutStr);
+    public AvailabilityResult checkAvailability(String propertyCode, String roomTypeStr,
+            String checkInStr, String checkOutStr) {
+        log.atInfo().setMessage("Checking availability")
+                .addKeyValue("property", propertyCode)
+                .addKeyValue("type", roomTypeStr)
+                .addKeyValue("checkIn", checkInStr)
+                .addKeyValue("checkOut", checkOutStr)
+                .log();
+
+        readYourWrites.readProperty(propertyService.normalizeCode(propertyCode));
+        Optional<Property> propertyOpt = propertyService.resolve(propertyCode);
+        if (propertyOpt.isEmpty()) {
+            return AvailabilityResult.error(ToolOutcome.NOT_FOUND, "Property '" + propertyCode + "' not found.");
+        }
+        Property property = propertyOpt.get();
 
         // Parse and validate room type
         RoomType roomType;
         try {
             roomType = RoomType.valueOf(roomTypeStr.toUpperCase());
         } catch (IllegalArgumentException e) {
-            return AvailabilityResult.error("Invalid room type: " + roomTypeStr +
+            return AvailabilityResult.error(ToolOutcome.VALIDATION_ERROR, "Invalid room type: " + roomTypeStr +
                     ". Valid types are: SINGLE, DOUBLE, SUITE, DELUXE");
         }
 
@@ -88,47 +127,311 @@ public class RoomService {
             checkIn = LocalDate.parse(checkInStr);
             checkOut = LocalDate.parse(checkOutStr);
         } catch (DateTimeParseException e) {
-            return AvailabilityResult.error("Invalid date format. Please use YYYY-MM-DD format.");
+            return AvailabilityResult.error(ToolOutcome.VALIDATION_ERROR,
+                    "Invalid date format. Please use YYYY-MM-DD format.");
         }
 
         // Validate date logic
         if (checkIn.isBefore(LocalDate.now())) {
-            return AvailabilityResult.error("Check-in date cannot be in the past.");
+            return AvailabilityResult.error(ToolOutcome.VALIDATION_ERROR, "Check-in date cannot be in the past.");
         }
         if (checkOut.isBefore(checkIn) || checkOut.equals(checkIn)) {
-            return AvailabilityResult.error("Check-out date must be after check-in date.");
+            return AvailabilityResult.error(ToolOutcome.VALIDATION_ERROR,
+                    "Check-out date must be after check-in date.");
         }
 
         int numberOfNights = (int) ChronoUnit.DAYS.between(checkIn, checkOut);
 
         // Find available rooms
-        List<Room> availableRooms = roomRepository.findAvailableRoomsByTypeAndDateRange(
-                roomType, checkIn, checkOut);
+        List<RoomView> availableRooms = findAvailableRooms(property.getId(), roomType, checkIn, checkOut);
 
         if (availableRooms.isEmpty()) {
-            return AvailabilityResult.noAvailability(checkInStr, checkOutStr,
+            return AvailabilityResult.noAvailability(property.getCode(), checkInStr, checkOutStr,
                     roomType.getDisplayName(), numberOfNights);
         }
 
         List<AvailableRoom> roomDtos = availableRooms.stream()
-                .map(room -> new AvailableRoom(
-                        room.getRoomNumber(),
-                        room.getType().getDisplayName(),
-                        room.getDescription(),
-                        room.getAmenities(),
-                        room.getPricePerNight(),
-                        room.getMaxOccupancy()))
+                .map(room -> room.toAvailableRoom(
+                        rateCalendar.stayTotal(property.getId(), room.type(), room.pricePerNight(), checkIn, checkOut)))
                 .toList();
 
-        return AvailabilityResult.success(checkInStr, checkOutStr,
+        return AvailabilityResult.success(property.getCode(), checkInStr, checkOutStr,
                 roomType.getDisplayName(), numberOfNights, roomDtos);
     }
 
     /**
-     * Find a room by room number.
+     * Check availability for every room type at once in one property, grouped
+     * by type with per-type counts and starting prices. Runs a single room
+     * query instead of one per type.
+     */
+    public AllAvailabilityResult checkAvailabilityAllTypes(String propertyCode, String checkInStr,
+            String checkOutStr) {
+        log.atInfo().setMessage("Checking availability for all room types")
+                .addKeyValue("property", propertyCode)
+                .addKeyValue("checkIn", checkInStr)
+                .addKeyValue("checkOut", checkOutStr)
+                .log();
+
+        readYourWrites.readProperty(propertyService.normalizeCode(propertyCode));
+        Optional<Property> propertyOpt = propertyService.resolve(propertyCode);
+        if (propertyOpt.isEmpty()) {
+            return AllAvailabilityResult.error(ToolOutcome.NOT_FOUND, "Property '" + propertyCode + "' not found.");
+        }
+        Property property = propertyOpt.get();
+
+        LocalDate checkIn, checkOut;
+        try {
+            checkIn = LocalDate.parse(checkInStr);
+            checkOut = LocalDate.parse(checkOutStr);
+        } catch (DateTimeParseException e) {
+            return AllAvailabilityResult.error(ToolOutcome.VALIDATION_ERROR,
+                    "Invalid date format. Please use YYYY-MM-DD format.");
+        }
+
+        if (checkIn.isBefore(LocalDate.now())) {
+            return AllAvailabilityResult.error(ToolOutcome.VALIDATION_ERROR, "Check-in date cannot be in the past.");
+        }
+        if (!checkOut.isAfter(checkIn)) {
+            return AllAvailabilityResult.error(ToolOutcome.VALIDATION_ERROR,
+                    "Check-out date must be after check-in date.");
+        }
+
+        int numberOfNights = (int) ChronoUnit.DAYS.between(checkIn, checkOut);
+
+        Map<RoomType, List<AvailableRoom>> roomsByType = new EnumMap<>(RoomType.class);
+        for (RoomView room : findAvailableRooms(property.getId(), null, checkIn, checkOut)) {
+            BigDecimal totalPrice = rateCalendar.stayTotal(property.getId(), room.type(), room.pricePerNight(),
+                    checkIn, checkOut);
+            roomsByType.computeIfAbsent(room.type(), type -> new ArrayList<>())
+                    .add(room.toAvailableRoom(totalPrice));
+        }
+
+        return AllAvailabilityResult.of(property.getCode(), checkInStr, checkOutStr, numberOfNights, roomsByType);
+    }
+
+    /**
+     * Find available rooms of a type, or of any type if {@code roomType} is
+     * null, answering from the availability index where possible and only
+     * querying bookings for rooms it cannot vouch for.
+     */
+    private List<RoomView> findAvailableRooms(Long propertyId, RoomType roomType,
+            LocalDate checkIn, LocalDate checkOut) {
+        if (!availabilityIndex.covers(checkIn, checkOut)) {
+            return roomType == null
+                    ? roomRepository.findAvailableRoomsForDateRange(propertyId, checkIn, checkOut)
+                    : roomRepository.findAvailableRoomsByTypeAndDateRange(propertyId, roomType, checkIn, checkOut);
+        }
+
+        List<RoomView> candidates = roomType == null
+                ? roomRepository.findRoomViews(propertyId)
+                : roomRepository.findRoomViewsByType(propertyId, roomType);
+        List<RoomView> availableRooms = new ArrayList<>();
+        for (RoomView room : candidates) {
+            boolean free = switch (availabilityIndex.lookup(room.id(), checkIn, checkOut)) {
+                case FREE -> true;
+                case OCCUPIED -> false;
+                case UNKNOWN -> roomRepository.isRoomAvailableForDates(room.id(), checkIn, checkOut);
+            };
+            if (free) {
+                availableRooms.add(room);
+            }
+        }
+        return availableRooms;
+    }
+
+    /**
+     * Find the cheapest stays of a given length that fit between the window
+     * start (earliest check-in) and end (latest check-out) in one property.
+     *
+     * The rooms and the active bookings overlapping the window are loaded
+     * with one query each. Each room's occupied days become a bitset, and a
+     * window of nights + 1 days (the check-out day counts as occupied) slides
+     * across it, so every feasible (room, check-in) pair is found in a single
+     * pass. Only the cheapest {@code maxResults} are kept.
+     */
+    public FlexibleSearchResult searchFlexibleDates(String propertyCode, String roomTypeStr, String windowStartStr,
+            String windowEndStr, int nights, int maxResults) {
+        log.atInfo().setMessage("Searching flexible dates")
+                .addKeyValue("property", propertyCode)
+                .addKeyValue("type", roomTypeStr)
+                .addKeyValue("windowStart", windowStartStr)
+                .addKeyValue("windowEnd", windowEndStr)
+                .addKeyValue("nights", nights)
+                .log();
+
+        readYourWrites.readProperty(propertyService.normalizeCode(propertyCode));
+        Optional<Property> propertyOpt = propertyService.resolve(propertyCode);
+        if (propertyOpt.isEmpty()) {
+            return FlexibleSearchResult.error(ToolOutcome.NOT_FOUND, "Property '" + propertyCode + "' not found.");
+        }
+        Property property = propertyOpt.get();
+
+        RoomType roomType = null;
+        if (roomTypeStr != null && !roomTypeStr.isBlank()) {
+            try {
+                roomType = RoomType.valueOf(roomTypeStr.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return FlexibleSearchResult.error(ToolOutcome.VALIDATION_ERROR, "Invalid room type: " + roomTypeStr +
+                        ". Valid types are: SINGLE, DOUBLE, SUITE, DELUXE");
+            }
+        }
+
+        LocalDate windowStart, windowEnd;
+        try {
+            windowStart = LocalDate.parse(windowStartStr);
+            windowEnd = LocalDate.parse(windowEndStr);
+        } catch (DateTimeParseException | NullPointerException e) {
+            return FlexibleSearchResult.error(ToolOutcome.VALIDATION_ERROR,
+                    "Invalid date format. Please use YYYY-MM-DD format.");
+        }
+        if (windowStart.isBefore(LocalDate.now())) {
+            return FlexibleSearchResult.error(ToolOutcome.VALIDATION_ERROR, "Window start date cannot be in the past.");
+        }
+        int span = (int) ChronoUnit.DAYS.between(windowStart, windowEnd);
+        if (span > maxSearchWindowDays) {
+            return FlexibleSearchResult.error(ToolOutcome.VALIDATION_ERROR,
+                    "The date window can be at most " + maxSearchWindowDays + " days.");
+        }
+        if (nights < 1 || nights > span) {
+            return FlexibleSearchResult.error(ToolOutcome.VALIDATION_ERROR,
+                    "Number of nights must be between 1 and the length of the date window.");
+        }
+
+        List<RoomView> rooms = roomType == null
+                ? roomRepository.findRoomViews(property.getId())
+                : roomRepository.findRoomViewsByType(property.getId(), roomType);
+
+        // Day i of the bitset is windowStart + i; days 0..span are the only ones a stay can use
+        Map<Long, BitSet> occupied = new HashMap<>();
+        for (BookingStay stay : bookingRepository.findActiveStays(property.getId(), windowStart, windowEnd)) {
+            int from = (int) Math.max(ChronoUnit.DAYS.between(windowStart, stay.checkInDate()), 0);
+            int to = (int) Math.min(ChronoUnit.DAYS.between(windowStart, stay.checkOutDate()), span);
+            occupied.computeIfAbsent(stay.roomId(), id -> new BitSet(span + 1)).set(from, to + 1);
+        }
+
+        // Max-heap on price so the most expensive kept option is evicted first
+        PriorityQueue<StayOption> cheapest = new PriorityQueue<>(maxResults + 1,
+                FlexibleSearchResult.CHEAPEST_FIRST.reversed());
+        int feasible = 0;
+        for (RoomView room : rooms) {
+            long pricePerNightPaise = RateCalendar.toPaise(room.pricePerNight());
+            BitSet days = occupied.get(room.id());
+            int busy = days == null ? 0 : days.get(0, nights + 1).cardinality();
+            for (int start = 0; start + nights <= span; start++) {
+                if (start > 0 && days != null) {
+                    // Slide the stay one day: drop the old check-in day, add the new check-out day
+                    busy += (days.get(start + nights) ? 1 : 0) - (days.get(start - 1) ? 1 : 0);
+                }
+                if (busy > 0) {
+                    continue;
+                }
+                feasible++;
+                LocalDate checkIn = windowStart.plusDays(start);
+                LocalDate checkOut = checkIn.plusDays(nights);
+                // Prefix sums make each stay's price O(1) however many nights it has
+                long totalPaise = rateCalendar.stayTotalPaise(property.getId(), room.type(), pricePerNightPaise,
+                        checkIn, checkOut);
+                if (cheapest.size() == maxResults
+                        && totalPaise > RateCalendar.toPaise(cheapest.peek().totalPrice())) {
+                    continue;
+                }
+                cheapest.offer(new StayOption(room.propertyCode(), room.roomNumber(), room.type().getDisplayName(),
+                        checkIn.toString(), checkOut.toString(), room.pricePerNight(),
+                        RateCalendar.toRupees(totalPaise)));
+                if (cheapest.size() > maxResults) {
+                    cheapest.poll();
+                }
+            }
+        }
+
+        List<StayOption> options = new ArrayList<>(cheapest);
+        options.sort(FlexibleSearchResult.CHEAPEST_FIRST);
+        return FlexibleSearchResult.of(property.getCode(), roomType != null ? roomType.getDisplayName() : null,
+                windowStartStr, windowEndStr, nights, feasible, options);
+    }
+
+    /**
+     * Quote a stay in the cheapest room of each type (or of one type) in a
+     * property, from the rate calendar. Does not check availability.
+     */
+    public PriceQuote getPriceQuote(String propertyCode, String roomTypeStr, String checkInStr,
+            String checkOutStr) {
+        log.atInfo().setMessage("Quoting prices")
+                .addKeyValue("property", propertyCode)
+                .addKeyValue("type", roomTypeStr)
+                .addKeyValue("checkIn", checkInStr)
+                .addKeyValue("checkOut", checkOutStr)
+                .log();
+
+        Optional<Property> propertyOpt = propertyService.resolve(propertyCode);
+        if (propertyOpt.isEmpty()) {
+            return PriceQuote.error(ToolOutcome.NOT_FOUND, "Property '" + propertyCode + "' not found.");
+        }
+        Property property = propertyOpt.get();
+
+        RoomType roomType = null;
+        if (roomTypeStr != null && !roomTypeStr.isBlank()) {
+            try {
+                roomType = RoomType.valueOf(roomTypeStr.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return PriceQuote.error(ToolOutcome.VALIDATION_ERROR, "Invalid room type: " + roomTypeStr +
+                        ". Valid types are: SINGLE, DOUBLE, SUITE, DELUXE");
+            }
+        }
+
+        LocalDate checkIn, checkOut;
+        try {
+            checkIn = LocalDate.parse(checkInStr);
+            checkOut = LocalDate.parse(checkOutStr);
+        } catch (DateTimeParseException e) {
+            return PriceQuote.error(ToolOutcome.VALIDATION_ERROR, "Invalid date format. Please use YYYY-MM-DD format.");
+        }
+        if (checkIn.isBefore(LocalDate.now())) {
+            return PriceQuote.error(ToolOutcome.VALIDATION_ERROR, "Check-in date cannot be in the past.");
+        }
+        if (!checkOut.isAfter(checkIn)) {
+            return PriceQuote.error(ToolOutcome.VALIDATION_ERROR, "Check-out date must be after check-in date.");
+        }
+
+        int numberOfNights = (int) ChronoUnit.DAYS.between(checkIn, checkOut);
+        List<RoomView> rooms = roomType == null
+                ? roomRepository.findRoomViews(property.getId())
+                : roomRepository.findRoomViewsByType(property.getId(), roomType);
+
+        // Cheapest stay per type; adjustments are per type, so only the base price differs between rooms
+        Map<RoomType, RoomView> cheapest = new EnumMap<>(RoomType.class);
+        for (RoomView room : rooms) {
+            cheapest.merge(room.type(), room,
+                    (current, candidate) -> candidate.pricePerNight().compareTo(current.pricePerNight()) < 0
+                            ? candidate : current);
+        }
+
+        List<RoomTypeQuote> quotes = new ArrayList<>();
+        for (RoomView room : cheapest.values()) {
+            long totalPaise = rateCalendar.stayTotalPaise(property.getId(), room.type(), room.pricePerNight(),
+                    checkIn, checkOut);
+            quotes.add(new RoomTypeQuote(room.type().name(), room.type().getDisplayName(), room.roomNumber(),
+                    room.pricePerNight(), RateCalendar.toRupees((totalPaise + numberOfNights / 2) / numberOfNights),
+                    RateCalendar.toRupees(totalPaise)));
+        }
+
+        BigDecimal discountPercent = BigDecimal.valueOf(rateCalendar.lengthOfStayDiscount(numberOfNights), 2);
+        return PriceQuote.of(property.getCode(), checkInStr, checkOutStr, numberOfNights, discountPercent, quotes);
+    }
+
+    /**
+     * Codes of all properties that can be searched.
+     */
+    public List<String> getSearchablePropertyCodes() {
+        return propertyService.getActivePropertyCodes();
+    }
+
+    /**
+     * Find a room by room number within a property.
      */
-    public Optional<Room> findByRoomNumber(String roomNumber) {
-        return roomRepository.findByRoomNumber(roomNumber);
+    public Optional<Room> findByRoomNumber(String propertyCode, String roomNumber) {
+        return propertyService.resolve(propertyCode)
+                .flatMap(property -> roomRepository.findByPropertyIdAndRoomNumber(property.getId(), roomNumber));
     }
 
     /**
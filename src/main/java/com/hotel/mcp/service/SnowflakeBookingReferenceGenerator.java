@@ -0,0 +1,113 @@
+package com.hotel.mcp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake-style booking reference generator.
+ *
+ * Format: HBK-YYYYMMDD-XXXXXXXXXX (e.g., HBK-20260112-0K3M9Q2A01). The suffix
+ * is Crockford base32 of the millisecond within the day, the node id and a
+ * per-millisecond sequence, so references are unique as long as every node
+ * has its own id and the clock does not move backwards across a restart.
+ *
+ * State is a single packed timestamp/sequence updated with CAS, so threads
+ * never block each other. When the sequence is exhausted the generator
+ * borrows the next millisecond rather than waiting.
+ */
+@Component
+public class SnowflakeBookingReferenceGenerator implements BookingReferenceGenerator {
+
+    private static final String PREFIX = "HBK-";
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int SUFFIX_LENGTH = 10;
+    private static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeId;
+    private final Clock clock;
+    private final ZoneId zone;
+    private final AtomicLong state = new AtomicLong();
+
+    private volatile Day currentDay;
+
+    @Autowired
+    public SnowflakeBookingReferenceGenerator(@Value("${hotel.booking-reference.node-id:0}") int nodeId) {
+        this(nodeId, Clock.systemDefaultZone());
+    }
+
+    public SnowflakeBookingReferenceGenerator(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        this.zone = clock.getZone();
+    }
+
+    @Override
+    public String next() {
+        long now = clock.millis() << SEQUENCE_BITS;
+        long prev;
+        long next;
+        do {
+            prev = state.get();
+            next = now > prev ? now : prev + 1;
+        } while (!state.compareAndSet(prev, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+
+        Day day = currentDay;
+        if (day == null || millis < day.startMillis || millis >= day.endMillis) {
+            day = Day.of(millis, zone);
+            currentDay = day;
+        }
+
+        long value = ((millis - day.startMillis) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+
+        char[] prefix = day.prefix;
+        char[] buffer = new char[prefix.length + SUFFIX_LENGTH];
+        System.arraycopy(prefix, 0, buffer, 0, prefix.length);
+        for (int i = buffer.length - 1; i >= prefix.length; i--) {
+            buffer[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(buffer);
+    }
+
+    /**
+     * Cached reference prefix and bounds for one calendar day.
+     */
+    private static final class Day {
+
+        private final long startMillis;
+        private final long endMillis;
+        private final char[] prefix;
+
+        private Day(long startMillis, long endMillis, char[] prefix) {
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.prefix = prefix;
+        }
+
+        static Day of(long millis, ZoneId zone) {
+            LocalDate date = Instant.ofEpochMilli(millis).atZone(zone).toLocalDate();
+            long start = date.atStartOfDay(zone).toInstant().toEpochMilli();
+            long end = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            String prefix = String.format("%s%04d%02d%02d-", PREFIX,
+                    date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+            return new Day(start, end, prefix.toCharArray());
+        }
+    }
+}
@@ -2,12 +2,19 @@ package com.hotel.mcp.tools;
 
 import com.hotel.mcp.dto.*;
 import com.hotel.mcp.service.BookingService;
+import com.hotel.mcp.service.IdempotencyService;
+import com.hotel.mcp.service.OccupancyService;
 import com.hotel.mcp.service.RoomService;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * MCP Tools for Hotel Booking operations.
@@ -18,12 +25,25 @@ import java.util.List;
 @Component
 public class HotelBookingTools {
 
+    private static final int DEFAULT_FLEXIBLE_RESULTS = 5;
+    private static final int MAX_FLEXIBLE_RESULTS = 20;
+    private static final String IDEMPOTENCY_KEY_DESCRIPTION = "Unique key for this request (optional, e.g. a UUID). "
+            + "Retrying with the same key returns the original result instead of repeating the action.";
+
     private final RoomService roomService;
     private final BookingService bookingService;
+    private final IdempotencyService idempotencyService;
+    private final OccupancyService occupancyService;
+    private final Executor propertySearchExecutor;
 
-    public HotelBookingTools(RoomService roomService, BookingService bookingService) {
+    public HotelBookingTools(RoomService roomService, BookingService bookingService,
+            IdempotencyService idempotencyService, OccupancyService occupancyService,
+            @Qualifier("propertySearchExecutor") Executor propertySearchExecutor) {
         this.roomService = roomService;
         this.bookingService = bookingService;
+        this.idempotencyService = idempotencyService;
+        this.occupancyService = occupancyService;
+        this.propertySearchExecutor = propertySearchExecutor;
     }
 
     /**
@@ -38,23 +58,137 @@ public class HotelBookingTools {
     /**
      * Check room availability for specific dates and room type.
      * Use this to find available rooms for a guest's desired stay.
+     * Without a property code the search fans out across all properties in parallel.
      */
-    @Tool(name = "check_availability", description = "Check room availability for a specific room type and date range. Returns list of available rooms with prices in INR. Use this when a guest wants to know which rooms are available for their trip.")
+    @Tool(name = "check_availability", description = "Check room availability for a specific room type and date range. Returns list of available rooms with prices in INR and the property each room belongs to. Use this when a guest wants to know which rooms are available for their trip.")
     public AvailabilityResult checkAvailability(
             @ToolParam(description = "Room type to check. Valid values: SINGLE, DOUBLE, SUITE, DELUXE") String roomType,
 
             @ToolParam(description = "Check-in date in YYYY-MM-DD format (e.g., 2026-01-15)") String checkInDate,
 
-            @ToolParam(description = "Check-out date in YYYY-MM-DD format (e.g., 2026-01-17)") String checkOutDate) {
+            @ToolParam(description = "Check-out date in YYYY-MM-DD format (e.g., 2026-01-17)") String checkOutDate,
+
+            @ToolParam(description = "Property code to search (optional). Leave empty to search all properties.", required = false) String propertyCode) {
+
+        if (propertyCode != null && !propertyCode.isBlank()) {
+            return roomService.checkAvailability(propertyCode, roomType, checkInDate, checkOutDate);
+        }
+
+        List<String> propertyCodes = roomService.getSearchablePropertyCodes();
+        if (propertyCodes.size() <= 1) {
+            return roomService.checkAvailability(
+                    propertyCodes.isEmpty() ? null : propertyCodes.get(0), roomType, checkInDate, checkOutDate);
+        }
+
+        // Fan out one search per property and collect results as they complete
+        List<AvailabilityResult> results = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture.allOf(propertyCodes.stream()
+                .map(code -> CompletableFuture
+                        .supplyAsync(() -> roomService.checkAvailability(code, roomType, checkInDate, checkOutDate),
+                                propertySearchExecutor)
+                        .thenAccept(results::add))
+                .toArray(CompletableFuture[]::new))
+                .join();
+
+        return AvailabilityResult.merge(results);
+    }
+
+    /**
+     * Check availability for every room type in one call, grouped by type.
+     * Without a property code the search fans out across all properties in parallel.
+     */
+    @Tool(name = "check_availability_all", description = "Check room availability for all room types at once for a date range. Returns the available rooms grouped by room type, with the number of free rooms and the starting price in INR for each type. Use this instead of calling check_availability once per room type when a guest wants to see their options.")
+    public AllAvailabilityResult checkAvailabilityAll(
+            @ToolParam(description = "Check-in date in YYYY-MM-DD format (e.g., 2026-01-15)") String checkInDate,
+
+            @ToolParam(description = "Check-out date in YYYY-MM-DD format (e.g., 2026-01-17)") String checkOutDate,
+
+            @ToolParam(description = "Property code to search (optional). Leave empty to search all properties.", required = false) String propertyCode) {
+
+        if (propertyCode != null && !propertyCode.isBlank()) {
+            return roomService.checkAvailabilityAllTypes(propertyCode, checkInDate, checkOutDate);
+        }
 
-        return roomService.checkAvailability(roomType, checkInDate, checkOutDate);
+        List<String> propertyCodes = roomService.getSearchablePropertyCodes();
+        if (propertyCodes.size() <= 1) {
+            return roomService.checkAvailabilityAllTypes(
+                    propertyCodes.isEmpty() ? null : propertyCodes.get(0), checkInDate, checkOutDate);
+        }
+
+        List<AllAvailabilityResult> results = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture.allOf(propertyCodes.stream()
+                .map(code -> CompletableFuture
+                        .supplyAsync(() -> roomService.checkAvailabilityAllTypes(code, checkInDate, checkOutDate),
+                                propertySearchExecutor)
+                        .thenAccept(results::add))
+                .toArray(CompletableFuture[]::new))
+                .join();
+
+        return AllAvailabilityResult.merge(results);
+    }
+
+    /**
+     * Quote the price of a stay per room type from the rate calendar.
+     */
+    @Tool(name = "get_price_quote", description = "Get the total price in INR of a stay for each room type (or one room type), including seasonal and weekend rates and length-of-stay discounts. Does not check availability. Use this when a guest asks how much a stay would cost.")
+    public PriceQuote getPriceQuote(
+            @ToolParam(description = "Check-in date in YYYY-MM-DD format (e.g., 2026-01-15)") String checkInDate,
+
+            @ToolParam(description = "Check-out date in YYYY-MM-DD format (e.g., 2026-01-17)") String checkOutDate,
+
+            @ToolParam(description = "Room type (optional). Valid values: SINGLE, DOUBLE, SUITE, DELUXE. Leave empty for all types.", required = false) String roomType,
+
+            @ToolParam(description = "Property code (optional). Leave empty for the default property.", required = false) String propertyCode) {
+
+        return roomService.getPriceQuote(propertyCode, roomType, checkInDate, checkOutDate);
+    }
+
+    /**
+     * Find the cheapest stays of a given length anywhere in a date window.
+     * Without a property code the search fans out across all properties in parallel.
+     */
+    @Tool(name = "search_flexible_dates", description = "Find the cheapest available stays of a given number of nights anywhere within a date window, e.g. 'any 3 nights in the next two weeks'. Returns the cheapest room and date options with prices in INR. Use this instead of calling check_availability for each possible check-in date.")
+    public FlexibleSearchResult searchFlexibleDates(
+            @ToolParam(description = "Earliest check-in date in YYYY-MM-DD format") String windowStart,
+
+            @ToolParam(description = "Latest check-out date in YYYY-MM-DD format") String windowEnd,
+
+            @ToolParam(description = "Number of nights to stay") int nights,
+
+            @ToolParam(description = "Room type (optional). Valid values: SINGLE, DOUBLE, SUITE, DELUXE. Leave empty for any type.", required = false) String roomType,
+
+            @ToolParam(description = "Property code to search (optional). Leave empty to search all properties.", required = false) String propertyCode,
+
+            @ToolParam(description = "Number of options to return (optional, default 5, max 20)", required = false) Integer maxResults) {
+
+        int limit = Math.max(1, Math.min(maxResults == null ? DEFAULT_FLEXIBLE_RESULTS : maxResults, MAX_FLEXIBLE_RESULTS));
+        if (propertyCode != null && !propertyCode.isBlank()) {
+            return roomService.searchFlexibleDates(propertyCode, roomType, windowStart, windowEnd, nights, limit);
+        }
+
+        List<String> propertyCodes = roomService.getSearchablePropertyCodes();
+        if (propertyCodes.size() <= 1) {
+            return roomService.searchFlexibleDates(propertyCodes.isEmpty() ? null : propertyCodes.get(0),
+                    roomType, windowStart, windowEnd, nights, limit);
+        }
+
+        List<FlexibleSearchResult> results = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture.allOf(propertyCodes.stream()
+                .map(code -> CompletableFuture
+                        .supplyAsync(() -> roomService.searchFlexibleDates(code, roomType, windowStart, windowEnd,
+                                nights, limit), propertySearchExecutor)
+                        .thenAccept(results::add))
+                .toArray(CompletableFuture[]::new))
+                .join();
+
+        return FlexibleSearchResult.merge(results, limit);
     }
 
     /**
      * Book a room for a guest.
      * Creates a pending booking that needs to be confirmed.
      */
-    @Tool(name = "book_room", description = "Book a specific room for a guest. Creates a booking with PENDING status. Returns a booking reference that must be used to confirm the booking. Prices are in INR.")
+    @Tool(name = "book_room", description = "Book a specific room for a guest. Creates a booking with PENDING status. Returns a booking reference that must be used to confirm the booking before holdExpiresAt, after which the room is released. Prices are in INR.")
     public BookingResult bookRoom(
             @ToolParam(description = "Room number to book (e.g., '201', '301')") String roomNumber,
 
@@ -66,10 +200,46 @@ public class HotelBookingTools {
 
             @ToolParam(description = "Check-in date in YYYY-MM-DD format") String checkInDate,
 
-            @ToolParam(description = "Check-out date in YYYY-MM-DD format") String checkOutDate) {
+            @ToolParam(description = "Check-out date in YYYY-MM-DD format") String checkOutDate,
+
+            @ToolParam(description = "Property code the room belongs to (optional, defaults to the main property)", required = false) String propertyCode,
+
+            @ToolParam(description = IDEMPOTENCY_KEY_DESCRIPTION, required = false) String idempotencyKey) {
+
+        return idempotencyService.execute("book_room", idempotencyKey, BookingResult.class,
+                result -> result.success(), BookingResult::failure,
+                () -> bookingService.createBooking(propertyCode, roomNumber, guestName, guestEmail,
+                        guestPhone, checkInDate, checkOutDate),
+                propertyCode, roomNumber, guestName, guestEmail, guestPhone, checkInDate, checkOutDate);
+    }
+
+    /**
+     * Book several rooms for a guest in one call.
+     * Either every room is booked or none is.
+     */
+    @Tool(name = "book_rooms", description = "Book several rooms at once for the same guest and dates, e.g. for a group trip. All rooms are booked or none are. Each booking is created with PENDING status and has its own booking reference. Prices are in INR.")
+    public GroupBookingResult bookRooms(
+            @ToolParam(description = "Room numbers to book (e.g., ['201', '202', '301'])") List<String> roomNumbers,
+
+            @ToolParam(description = "Full name of the guest making the booking") String guestName,
+
+            @ToolParam(description = "Email address of the guest (for booking confirmation)") String guestEmail,
+
+            @ToolParam(description = "Phone number of the guest (optional, for contact purposes)", required = false) String guestPhone,
+
+            @ToolParam(description = "Check-in date in YYYY-MM-DD format") String checkInDate,
+
+            @ToolParam(description = "Check-out date in YYYY-MM-DD format") String checkOutDate,
+
+            @ToolParam(description = "Property code the rooms belong to (optional, defaults to the main property)", required = false) String propertyCode,
 
-        return bookingService.createBooking(roomNumber, guestName, guestEmail,
-                guestPhone, checkInDate, checkOutDate);
+            @ToolParam(description = IDEMPOTENCY_KEY_DESCRIPTION, required = false) String idempotencyKey) {
+
+        return idempotencyService.execute("book_rooms", idempotencyKey, GroupBookingResult.class,
+                result -> result.success(), GroupBookingResult::failure,
+                () -> bookingService.createBookings(propertyCode, roomNumbers, guestName, guestEmail,
+                        guestPhone, checkInDate, checkOutDate),
+                propertyCode, roomNumbers, guestName, guestEmail, guestPhone, checkInDate, checkOutDate);
     }
 
     /**
@@ -78,9 +248,15 @@ public class HotelBookingTools {
      */
     @Tool(name = "confirm_booking", description = "Confirm a pending booking using its booking reference. A booking must be confirmed for the reservation to be valid. Use this after creating a booking with book_room.")
     public ConfirmationResult confirmBooking(
-            @ToolParam(description = "Booking reference code (e.g., 'HBK-20260112-A7B3')") String bookingReference) {
+            @ToolParam(description = "Booking reference code (e.g., 'HBK-20260112-0K3M9Q2A01')") String bookingReference,
+
+            @ToolParam(description = IDEMPOTENCY_KEY_DESCRIPTION, required = false) String idempotencyKey) {
 
-        return bookingService.confirmBooking(bookingReference);
+        return idempotencyService.execute("confirm_booking", idempotencyKey, ConfirmationResult.class,
+                result -> result.success(),
+                (outcome, message) -> ConfirmationResult.failure(bookingReference, outcome, message),
+                () -> bookingService.confirmBooking(bookingReference),
+                bookingReference);
     }
 
     /**
@@ -89,19 +265,88 @@ public class HotelBookingTools {
      */
     @Tool(name = "get_booking_details", description = "Retrieve complete details of an existing booking using its reference code. Use this when a guest wants to check their booking information.")
     public BookingDetails getBookingDetails(
-            @ToolParam(description = "Booking reference code (e.g., 'HBK-20260112-A7B3')") String bookingReference) {
+            @ToolParam(description = "Booking reference code (e.g., 'HBK-20260112-0K3M9Q2A01')") String bookingReference) {
 
         return bookingService.getBookingDetails(bookingReference);
     }
 
+    /**
+     * Get details of several bookings in one call.
+     */
+    @Tool(name = "get_bookings", description = "Retrieve details of several bookings at once using their reference codes. Use this instead of calling get_booking_details repeatedly, e.g. for a group booking.")
+    public List<BookingDetails> getBookings(
+            @ToolParam(description = "Booking reference codes (e.g., ['HBK-20260112-0K3M9Q2A01', 'HBK-20260112-0K3M9Q2A02'])") List<String> bookingReferences) {
+
+        if (bookingReferences == null || bookingReferences.isEmpty()) {
+            return List.of();
+        }
+        return bookingService.getBookingDetails(bookingReferences);
+    }
+
+    /**
+     * List bookings page by page for reports.
+     */
+    @Tool(name = "list_bookings", description = "List the bookings of a property ordered by check-in date, one page at a time. Optionally filter by status and check-in date range. If the result has more bookings, call again with the returned nextCursor to get the next page.")
+    public BookingPage listBookings(
+            @ToolParam(description = "Property code (optional, defaults to the main property)", required = false) String propertyCode,
+
+            @ToolParam(description = "Only bookings with this status (optional). Valid values: PENDING, CONFIRMED, CANCELLED, COMPLETED", required = false) String status,
+
+            @ToolParam(description = "Earliest check-in date in YYYY-MM-DD format (optional)", required = false) String fromDate,
+
+            @ToolParam(description = "Latest check-in date in YYYY-MM-DD format (optional)", required = false) String toDate,
+
+            @ToolParam(description = "nextCursor from the previous page (optional, leave empty for the first page)", required = false) String cursor,
+
+            @ToolParam(description = "Bookings per page (optional, default 50, max 200)", required = false) Integer pageSize) {
+
+        return bookingService.listBookings(propertyCode, status, fromDate, toDate, cursor, pageSize);
+    }
+
+    /**
+     * Find a guest's bookings by email, page by page.
+     */
+    @Tool(name = "find_my_bookings", description = "Find a guest's bookings using the email address they booked with, newest check-in first, one page at a time. Optionally filter by status. Use this when a guest asks about their bookings but does not know the booking references. If the result has more bookings, call again with the returned nextCursor to get the next page.")
+    public BookingPage findMyBookings(
+            @ToolParam(description = "Email address the guest used when booking") String guestEmail,
+
+            @ToolParam(description = "Only bookings with this status (optional). Valid values: PENDING, CONFIRMED, CANCELLED, COMPLETED", required = false) String status,
+
+            @ToolParam(description = "nextCursor from the previous page (optional, leave empty for the first page)", required = false) String cursor,
+
+            @ToolParam(description = "Bookings per page (optional, default 50, max 200)", required = false) Integer pageSize) {
+
+        return bookingService.findGuestBookings(guestEmail, status, cursor, pageSize);
+    }
+
     /**
      * Cancel an existing booking.
      * Use this when a guest needs to cancel their reservation.
      */
     @Tool(name = "cancel_booking", description = "Cancel an existing booking using its reference code. Use this when a guest wants to cancel their reservation.")
     public CancellationResult cancelBooking(
-            @ToolParam(description = "Booking reference code (e.g., 'HBK-20260112-A7B3')") String bookingReference) {
+            @ToolParam(description = "Booking reference code (e.g., 'HBK-20260112-0K3M9Q2A01')") String bookingReference,
+
+            @ToolParam(description = IDEMPOTENCY_KEY_DESCRIPTION, required = false) String idempotencyKey) {
+
+        return idempotencyService.execute("cancel_booking", idempotencyKey, CancellationResult.class,
+                result -> result.success(),
+                (outcome, message) -> CancellationResult.failure(bookingReference, outcome, message),
+                () -> bookingService.cancelBooking(bookingReference),
+                bookingReference);
+    }
+
+    /**
+     * Report occupancy, ADR and RevPAR for a date range from the precomputed
+     * daily aggregates; never scans the bookings table.
+     */
+    @Tool(name = "get_occupancy_report", description = "Get an occupancy and revenue report for a range of stay dates: room nights sold, occupancy percentage, revenue, ADR (average daily rate) and RevPAR (revenue per available room) in INR, in total, per room type and per month. Use this for operational or management questions about hotel performance.")
+    public OccupancyReport getOccupancyReport(
+            @ToolParam(description = "First stay date in YYYY-MM-DD format") String fromDate,
+
+            @ToolParam(description = "Last stay date (inclusive) in YYYY-MM-DD format") String toDate,
 
-        return bookingService.cancelBooking(bookingReference);
+            @ToolParam(description = "Property code to report on (optional). Leave empty to report across all properties.", required = false) String propertyCode) {
+        return occupancyService.getOccupancyReport(propertyCode, fromDate, toDate);
     }
 }
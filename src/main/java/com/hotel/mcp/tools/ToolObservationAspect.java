@@ -0,0 +1,69 @@
+package com.hotel.mcp.tools;
+
+import com.hotel.mcp.dto.ToolOutcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps every MCP tool call in a {@code hotel.tool} observation tagged with
+ * the tool name and outcome, and counts results per outcome in
+ * {@code hotel.tool.results}. The observation becomes the parent span of
+ * the service and repository observations underneath it. The outcome is the
+ * one the result DTO was built with; calls that throw count as errors.
+ */
+@Aspect
+@Component
+public class ToolObservationAspect {
+
+    private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> resultCounters = new ConcurrentHashMap<>();
+
+    public ToolObservationAspect(ObservationRegistry observationRegistry, MeterRegistry meterRegistry) {
+        this.observationRegistry = observationRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(tool)")
+    public Object observe(ProceedingJoinPoint joinPoint, Tool tool) throws Throwable {
+        Observation observation = Observation.createNotStarted("hotel.tool", observationRegistry)
+                .contextualName("tool " + tool.name())
+                .lowCardinalityKeyValue("tool", tool.name())
+                .start();
+
+        ToolOutcome outcome = ToolOutcome.ERROR;
+        try (Observation.Scope scope = observation.openScope()) {
+            Object result = joinPoint.proceed();
+            outcome = ToolOutcome.of(result);
+            return result;
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.lowCardinalityKeyValue("outcome", outcome.tag());
+            observation.stop();
+            resultCounter(tool.name(), outcome).increment();
+        }
+    }
+
+    /**
+     * The {@code hotel.tool.results} counter for a tool and outcome, registered on first use.
+     */
+    private Counter resultCounter(String tool, ToolOutcome outcome) {
+        return resultCounters.computeIfAbsent(tool + ":" + outcome.tag(), key -> Counter.builder("hotel.tool.results")
+                .description("MCP tool calls by outcome")
+                .tag("tool", tool)
+                .tag("outcome", outcome.tag())
+                .register(meterRegistry));
+    }
+}
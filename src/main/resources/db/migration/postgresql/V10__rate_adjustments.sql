@@ -0,0 +1,22 @@
+-- Rate calendar rules: per-night surcharges (or negative discounts) on the
+-- base room price, per property and room type, for a range of nights on
+-- the weekdays in days_of_week (bit 0 = Monday ... bit 6 = Sunday).
+--
+-- RateCalendar loads the whole table and expands it into in-memory prefix
+-- sums, so one row can cover a season or a year of weekends.
+
+CREATE TABLE IF NOT EXISTS rate_adjustments (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    property_id      BIGINT       NOT NULL REFERENCES properties (id),
+    room_type        VARCHAR(255) NOT NULL,
+    start_date       DATE         NOT NULL,
+    end_date         DATE         NOT NULL,
+    days_of_week     INTEGER      NOT NULL DEFAULT 127,
+    adjustment_paise BIGINT       NOT NULL,
+    description      VARCHAR(255),
+    CHECK (end_date >= start_date),
+    CHECK (days_of_week BETWEEN 1 AND 127)
+);
+
+CREATE INDEX IF NOT EXISTS idx_rate_adjustments_property_type
+    ON rate_adjustments (property_id, room_type);
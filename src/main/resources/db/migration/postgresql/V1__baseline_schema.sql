@@ -0,0 +1,74 @@
+-- Baseline schema for the hotel booking server.
+-- Statements are idempotent so databases previously created by
+-- hibernate.ddl-auto can be baselined and migrated in place.
+
+CREATE TABLE IF NOT EXISTS properties (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    code        VARCHAR(32)  NOT NULL UNIQUE,
+    name        VARCHAR(255) NOT NULL,
+    city        VARCHAR(255),
+    active      BOOLEAN      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS rooms (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    property_id     BIGINT REFERENCES properties (id),
+    room_number     VARCHAR(255)   NOT NULL,
+    type            VARCHAR(255)   NOT NULL,
+    price_per_night NUMERIC(10, 2) NOT NULL,
+    description     VARCHAR(500),
+    amenities       VARCHAR(500),
+    max_occupancy   INTEGER        NOT NULL,
+    available       BOOLEAN        NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS bookings (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    booking_reference VARCHAR(255)   NOT NULL UNIQUE,
+    guest_name        VARCHAR(255)   NOT NULL,
+    guest_email       VARCHAR(255)   NOT NULL,
+    guest_phone       VARCHAR(255),
+    room_id           BIGINT         NOT NULL REFERENCES rooms (id),
+    property_id       BIGINT,
+    check_in_date     DATE           NOT NULL,
+    check_out_date    DATE           NOT NULL,
+    total_price       NUMERIC(10, 2) NOT NULL,
+    status            VARCHAR(255)   NOT NULL,
+    created_at        TIMESTAMP(6)   NOT NULL,
+    updated_at        TIMESTAMP(6),
+    number_of_guests  INTEGER,
+    special_requests  VARCHAR(1000)
+);
+
+CREATE TABLE IF NOT EXISTS booking_slots (
+    room_id    BIGINT NOT NULL,
+    slot_date  DATE   NOT NULL,
+    booking_id BIGINT NOT NULL,
+    PRIMARY KEY (room_id, slot_date)
+);
+
+-- Columns added when rooms and bookings were partitioned by property
+ALTER TABLE rooms ADD COLUMN IF NOT EXISTS property_id BIGINT REFERENCES properties (id);
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS property_id BIGINT;
+
+-- Room numbers used to be globally unique; they are now unique per property
+DO $$
+DECLARE
+    legacy_constraint TEXT;
+BEGIN
+    FOR legacy_constraint IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+        WHERE c.conrelid = 'rooms'::regclass
+          AND c.contype = 'u'
+          AND array_length(c.conkey, 1) = 1
+          AND a.attname = 'room_number'
+    LOOP
+        EXECUTE format('ALTER TABLE rooms DROP CONSTRAINT %I', legacy_constraint);
+    END LOOP;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_rooms_property_room_number') THEN
+        ALTER TABLE rooms ADD CONSTRAINT uk_rooms_property_room_number UNIQUE (property_id, room_number);
+    END IF;
+END $$;
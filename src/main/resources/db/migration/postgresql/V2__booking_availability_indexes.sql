@@ -0,0 +1,21 @@
+-- Indexes backing the availability queries.
+--
+-- Every availability check probes bookings by room and date range for
+-- PENDING/CONFIRMED rows only. The partial index skips cancelled and
+-- completed history, and INCLUDE (property_id) lets the correlated
+-- NOT EXISTS subqueries run as index-only scans.
+
+CREATE INDEX IF NOT EXISTS idx_bookings_active_room_dates
+    ON bookings (room_id, check_in_date, check_out_date)
+    INCLUDE (property_id)
+    WHERE status IN ('PENDING', 'CONFIRMED');
+
+CREATE INDEX IF NOT EXISTS idx_bookings_property_status
+    ON bookings (property_id, status);
+
+CREATE INDEX IF NOT EXISTS idx_rooms_property_type
+    ON rooms (property_id, type)
+    WHERE available;
+
+ANALYZE bookings;
+ANALYZE rooms;
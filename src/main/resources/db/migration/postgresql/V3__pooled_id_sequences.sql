@@ -0,0 +1,28 @@
+-- Replace identity ids with pooled sequences.
+--
+-- IDENTITY ids force Hibernate to insert each row on its own to learn the
+-- generated key, which disables JDBC batching. Entities now draw ids from
+-- sequences that increment by 50 (the allocationSize); Hibernate reserves a
+-- block of 50 ids per nextval and batches the inserts.
+--
+-- Each sequence is positioned so that the first block Hibernate takes
+-- (nextval - 49 .. nextval) starts after the highest existing id. Column
+-- defaults keep plain SQL inserts working; they take the value nextval
+-- returns, which no Hibernate block ever uses.
+
+DO $$
+DECLARE
+    tbl TEXT;
+    max_id BIGINT;
+BEGIN
+    FOREACH tbl IN ARRAY ARRAY['properties', 'rooms', 'bookings']
+    LOOP
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', tbl || '_seq');
+        EXECUTE format('SELECT COALESCE(MAX(id), 0) FROM %I', tbl) INTO max_id;
+        PERFORM setval(tbl || '_seq', max_id + 50, false);
+
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', tbl);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', tbl, tbl || '_seq');
+        EXECUTE format('ALTER SEQUENCE %I OWNED BY %I.id', tbl || '_seq', tbl);
+    END LOOP;
+END $$;
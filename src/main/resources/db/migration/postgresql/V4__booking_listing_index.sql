@@ -0,0 +1,8 @@
+-- Keyset index for list_bookings.
+--
+-- Pages are read in (check_in_date, id) order within a property and each
+-- page starts right after the last row of the previous one, so every page
+-- is a short range scan on this index however deep the listing goes.
+
+CREATE INDEX IF NOT EXISTS idx_bookings_property_check_in
+    ON bookings (property_id, check_in_date, id);
@@ -0,0 +1,16 @@
+-- Dedupe table for mutating tool calls made with an idempotency key.
+--
+-- A row is claimed before the call runs and holds the JSON result once it
+-- succeeds; rows past expires_at are purged periodically.
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(200) PRIMARY KEY,
+    tool            VARCHAR(50)  NOT NULL,
+    request_hash    VARCHAR(64)  NOT NULL,
+    response        TEXT,
+    created_at      TIMESTAMP    NOT NULL,
+    expires_at      TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at
+    ON idempotency_keys (expires_at);
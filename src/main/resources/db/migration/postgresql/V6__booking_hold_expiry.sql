@@ -0,0 +1,25 @@
+-- Expiring holds for PENDING bookings.
+--
+-- Availability checks skip holds whose hold_expires_at has passed, so the
+-- active-bookings index carries the column for index-only scans. Existing
+-- pending bookings get the default 30 minute hold from their creation time,
+-- which lets the sweeper cancel abandoned ones on its first run.
+
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS hold_expires_at TIMESTAMP;
+
+UPDATE bookings
+SET hold_expires_at = created_at + INTERVAL '30 minutes'
+WHERE status = 'PENDING'
+AND hold_expires_at IS NULL;
+
+DROP INDEX IF EXISTS idx_bookings_active_room_dates;
+
+CREATE INDEX IF NOT EXISTS idx_bookings_active_room_dates
+    ON bookings (room_id, check_in_date, check_out_date)
+    INCLUDE (property_id, hold_expires_at)
+    WHERE status IN ('PENDING', 'CONFIRMED');
+
+-- Drives the sweeper's oldest-first scan over pending holds
+CREATE INDEX IF NOT EXISTS idx_bookings_pending_hold_expiry
+    ON bookings (hold_expires_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,39 @@
+-- Archive for completed and cancelled bookings whose stay is long over.
+--
+-- BookingLifecycleJob moves rows here in batches so the bookings table only
+-- holds current and recent bookings. room_id deliberately has no foreign
+-- key; archived rows are never updated.
+
+CREATE TABLE IF NOT EXISTS bookings_archive (
+    id                BIGINT         PRIMARY KEY,
+    booking_reference VARCHAR(255)   NOT NULL UNIQUE,
+    guest_name        VARCHAR(255)   NOT NULL,
+    guest_email       VARCHAR(255)   NOT NULL,
+    guest_phone       VARCHAR(255),
+    room_id           BIGINT         NOT NULL,
+    property_id       BIGINT,
+    check_in_date     DATE           NOT NULL,
+    check_out_date    DATE           NOT NULL,
+    total_price       NUMERIC(10, 2) NOT NULL,
+    status            VARCHAR(255)   NOT NULL,
+    created_at        TIMESTAMP(6)   NOT NULL,
+    updated_at        TIMESTAMP(6),
+    number_of_guests  INTEGER,
+    special_requests  VARCHAR(1000),
+    archived_at       TIMESTAMP(6)   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_archive_guest_email
+    ON bookings_archive (guest_email);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_archive_property_check_in
+    ON bookings_archive (property_id, check_in_date);
+
+-- Drive the lifecycle job's scans on the hot table
+CREATE INDEX IF NOT EXISTS idx_bookings_confirmed_check_out
+    ON bookings (check_out_date)
+    WHERE status = 'CONFIRMED';
+
+CREATE INDEX IF NOT EXISTS idx_bookings_finished_check_out
+    ON bookings (check_out_date)
+    WHERE status IN ('COMPLETED', 'CANCELLED');
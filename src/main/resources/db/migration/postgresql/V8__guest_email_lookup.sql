@@ -0,0 +1,20 @@
+-- Indexes backing find_my_bookings.
+--
+-- Guest lookups filter on the lowercased email and page newest-first on
+-- (check_in_date, id), so a backward scan of one index range serves every
+-- page however many bookings share the email. The archive gets the same
+-- index in place of its single-column email index.
+
+CREATE INDEX IF NOT EXISTS idx_bookings_guest_email_check_in
+    ON bookings (guest_email, check_in_date, id);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_archive_guest_email_check_in
+    ON bookings_archive (guest_email, check_in_date, id);
+
+DROP INDEX IF EXISTS idx_bookings_archive_guest_email;
+
+-- createBooking and the importer lowercase emails on write; normalize any
+-- rows written another way so they match lookups
+UPDATE bookings SET guest_email = LOWER(guest_email) WHERE guest_email <> LOWER(guest_email);
+
+ANALYZE bookings;
@@ -0,0 +1,49 @@
+-- Daily occupancy and revenue aggregates per property, night and room type.
+--
+-- OccupancyService keeps the rows current as bookings are confirmed and
+-- cancelled, so occupancy reports read this table instead of bookings.
+-- Each night carries the total price divided by the nights, truncated to
+-- the paisa, with the remainder on the last night so the nights add up to
+-- the booking's total_price exactly.
+
+CREATE TABLE IF NOT EXISTS daily_occupancy (
+    property_id  BIGINT         NOT NULL,
+    stay_date    DATE           NOT NULL,
+    room_type    VARCHAR(255)   NOT NULL,
+    rooms_sold   INTEGER        NOT NULL,
+    room_revenue NUMERIC(14, 2) NOT NULL,
+    PRIMARY KEY (property_id, stay_date, room_type)
+);
+
+CREATE INDEX IF NOT EXISTS idx_daily_occupancy_stay_date
+    ON daily_occupancy (stay_date);
+
+-- Backfill from the confirmed and completed bookings, live and archived
+INSERT INTO daily_occupancy (property_id, stay_date, room_type, rooms_sold, room_revenue)
+SELECT r.property_id,
+       night.stay_date,
+       r.type,
+       COUNT(*),
+       SUM(CASE WHEN night.stay_date = s.check_out_date - 1
+                THEN s.total_price - TRUNC(s.total_price / (s.check_out_date - s.check_in_date), 2)
+                        * (s.check_out_date - s.check_in_date - 1)
+                ELSE TRUNC(s.total_price / (s.check_out_date - s.check_in_date), 2)
+           END)
+FROM (
+    SELECT room_id, check_in_date, check_out_date, total_price
+    FROM bookings
+    WHERE status IN ('CONFIRMED', 'COMPLETED')
+    UNION ALL
+    SELECT room_id, check_in_date, check_out_date, total_price
+    FROM bookings_archive
+    WHERE status IN ('CONFIRMED', 'COMPLETED')
+) s
+JOIN rooms r ON r.id = s.room_id
+CROSS JOIN LATERAL (
+    SELECT CAST(d AS DATE) AS stay_date
+    FROM generate_series(s.check_in_date, s.check_out_date - 1, INTERVAL '1 day') AS d
+) night
+WHERE r.property_id IS NOT NULL
+AND s.check_out_date > s.check_in_date
+GROUP BY r.property_id, night.stay_date, r.type
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,158 @@
+package com.hotel.mcp.repository;
+
+import com.hotel.mcp.entity.RoomType;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the availability queries against losing the partial index from V2
+ * (rebuilt with more INCLUDE columns in V6).
+ *
+ * Each test runs a repository query so Hibernate generates its SQL, then
+ * asks PostgreSQL for the generic plan of that SQL. Hash and merge joins and
+ * sequential scans are switched off for the transaction so the plan shows
+ * whether the per-room booking probe can be answered from the index; a
+ * change to the predicates that no longer matches the index's WHERE clause
+ * or leading columns makes it fall back to another index and fail here.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.hotel.mcp.repository.AvailabilityQueryPlanTest$CapturingInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class AvailabilityQueryPlanTest {
+
+    private static final String ACTIVE_BOOKINGS_INDEX = "idx_bookings_active_room_dates";
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long propertyId;
+
+    @BeforeEach
+    void seed() {
+        // One property with enough history that the (property_id, status)
+        // index is a poor match and the planner has real statistics
+        propertyId = jdbcTemplate.queryForObject("""
+                INSERT INTO properties (code, name, city, active)
+                VALUES ('PLAN', 'Plan Test Hotel', 'Pune', true)
+                RETURNING id
+                """, Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO rooms (property_id, room_number, type, price_per_night, max_occupancy, available)
+                SELECT ?, 'R' || n, (ARRAY['SINGLE', 'DOUBLE', 'SUITE', 'DELUXE'])[n % 4 + 1], 4500.00, 2, true
+                FROM generate_series(1, 300) AS n
+                """, propertyId);
+        jdbcTemplate.update("""
+                INSERT INTO bookings (booking_reference, guest_name, guest_email, room_id, property_id,
+                                      check_in_date, check_out_date, total_price, status, created_at)
+                SELECT 'BK-PLAN-' || n, 'Guest ' || n, 'guest' || n || '@example.com', r.id, r.property_id,
+                       DATE '2025-01-01' + (n % 700), DATE '2025-01-01' + (n % 700) + 2, 9000.00,
+                       CASE WHEN n % 10 = 0 THEN 'CONFIRMED' WHEN n % 10 = 1 THEN 'CANCELLED' ELSE 'COMPLETED' END,
+                       LOCALTIMESTAMP
+                FROM generate_series(1, 60000) AS n
+                JOIN rooms r ON r.property_id = ? AND r.room_number = 'R' || (n % 300 + 1)
+                """, propertyId);
+        jdbcTemplate.execute("ANALYZE bookings");
+        jdbcTemplate.execute("ANALYZE rooms");
+
+        CapturingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void availableRoomsByTypeProbesActiveBookingsIndex() {
+        roomRepository.findAvailableRoomsByTypeAndDateRange(
+                propertyId, RoomType.DELUXE, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 4));
+
+        assertThat(planOf(lastBookingsQuery())).contains(ACTIVE_BOOKINGS_INDEX);
+    }
+
+    @Test
+    void availableRoomsForDateRangeProbesActiveBookingsIndex() {
+        roomRepository.findAvailableRoomsForDateRange(
+                propertyId, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 4));
+
+        assertThat(planOf(lastBookingsQuery())).contains(ACTIVE_BOOKINGS_INDEX);
+    }
+
+    @Test
+    void roomAvailabilityCheckProbesActiveBookingsIndex() {
+        Long roomId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM rooms WHERE property_id = ?", Long.class, propertyId);
+
+        roomRepository.isRoomAvailableForDates(roomId, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 4));
+
+        assertThat(planOf(lastBookingsQuery())).contains(ACTIVE_BOOKINGS_INDEX);
+    }
+
+    private String lastBookingsQuery() {
+        List<String> statements = CapturingInspector.STATEMENTS;
+        for (int i = statements.size() - 1; i >= 0; i--) {
+            if (statements.get(i).contains("bookings")) {
+                return statements.get(i);
+            }
+        }
+        throw new AssertionError("No query on bookings was captured: " + statements);
+    }
+
+    /**
+     * The generic plan of a JDBC statement, with its ? placeholders turned
+     * into the $n parameters EXPLAIN (GENERIC_PLAN) accepts.
+     */
+    private String planOf(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_hashjoin = off");
+        jdbcTemplate.execute("SET LOCAL enable_mergejoin = off");
+        return String.join("\n",
+                jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numbered, String.class));
+    }
+
+    /**
+     * Records the SQL Hibernate sends, so the plans are taken of the
+     * statements the repositories actually run.
+     */
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}